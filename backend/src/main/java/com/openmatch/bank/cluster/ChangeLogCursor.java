@@ -0,0 +1,54 @@
+package com.openmatch.bank.cluster;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Read position in the shared change log. Ids are assigned at insert but become visible at
+ * commit, so a row can appear after rows with higher ids. Ids skipped over are remembered as
+ * gaps and looked up again until they show up or the grace period passes (rolled back inserts
+ * and sequence cache jumps never show up). Not thread-safe; used by the polling thread only.
+ */
+final class ChangeLogCursor {
+
+    static final int MAX_GAPS = 10_000;
+
+    private final long graceNanos;
+    private final Map<Long, Long> gaps = new LinkedHashMap<>();
+    private long lastSeen;
+
+    ChangeLogCursor(long lastSeen, Duration grace) {
+        this.lastSeen = lastSeen;
+        this.graceNanos = grace.toNanos();
+    }
+
+    long lastSeen() {
+        return lastSeen;
+    }
+
+    Collection<Long> gaps() {
+        return gaps.keySet();
+    }
+
+    /**
+     * Entries must be passed in ascending id order.
+     *
+     * @return true if the entry was not seen before
+     */
+    boolean accept(long id, long nowNanos) {
+        if (id > lastSeen) {
+            for (long missing = lastSeen + 1; missing < id && gaps.size() < MAX_GAPS; missing++) {
+                gaps.put(missing, nowNanos);
+            }
+            lastSeen = id;
+            return true;
+        }
+        return gaps.remove(id) != null;
+    }
+
+    void expire(long nowNanos) {
+        gaps.values().removeIf(detectedAt -> nowNanos - detectedAt > graceNanos);
+    }
+}
@@ -0,0 +1,192 @@
+package com.openmatch.bank.cluster;
+
+import com.openmatch.bank.event.BankChange;
+import com.openmatch.bank.event.BankChangeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scale-out mode: several instances share one database and keep their local read state (cache,
+ * ETags, list snapshot, typeahead index, change feed) in step through the {@code bank_change_log}
+ * table. Enable with {@code openmatch.cluster.enabled}.
+ * <p>
+ * Every write appends one row per changed bank in its own transaction, just before commit, so
+ * the log holds exactly the committed writes. Each node polls the log every
+ * {@code openmatch.cluster.poll-interval} with one indexed range query and republishes the rows
+ * of other nodes as a {@link BankChangeEvent}. No transaction is active at that point, so the
+ * read-state listeners declare {@code fallbackExecution} and apply it directly; a node sees
+ * another node's write within one poll interval. Rows older than
+ * {@code openmatch.cluster.retention} are pruned by every node.
+ */
+@Component
+public class ClusterChangeLog implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterChangeLog.class);
+
+    private static final int POLL_BATCH_SIZE = 1_000;
+    private static final int GAP_CHUNK_SIZE = 1_000;
+    private static final Duration PRUNE_INTERVAL = Duration.ofMinutes(1);
+    private static final String INSERT_SQL =
+            "insert into bank_change_log (bank_id, type, node_id, changed_at) values (?, ?, ?, ?)";
+    private static final String SELECT_AFTER_SQL = "select id, bank_id, type, node_id from bank_change_log "
+            + "where id > ? order by id fetch first " + POLL_BATCH_SIZE + " rows only";
+    private static final String SELECT_IN_SQL = "select id, bank_id, type, node_id from bank_change_log where id in ";
+    private static final RowMapper<Entry> ENTRY_MAPPER = (rs, rowNum) -> new Entry(rs.getLong(1),
+            new BankChange(BankChange.Type.valueOf(rs.getString(3)), rs.getLong(2)), rs.getString(4));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final String nodeId;
+    private final Duration pollInterval;
+    private final Duration gapGrace;
+    private final Duration retention;
+    private final ScheduledExecutorService poller;
+    private ChangeLogCursor cursor;
+
+    public ClusterChangeLog(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher,
+                            @Value("${openmatch.cluster.enabled:false}") boolean enabled,
+                            @Value("${openmatch.cluster.node-id:}") String nodeId,
+                            @Value("${openmatch.cluster.poll-interval:500ms}") Duration pollInterval,
+                            @Value("${openmatch.cluster.gap-grace:10s}") Duration gapGrace,
+                            @Value("${openmatch.cluster.retention:1h}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.pollInterval = pollInterval;
+        this.gapGrace = gapGrace;
+        this.retention = retention;
+        this.poller = enabled ? Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "bank-cluster-poller");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Starts reading after the newest row: everything before it is already in the database
+     * this node reads from.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!enabled) {
+            return;
+        }
+        Long max = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from bank_change_log", Long.class);
+        cursor = new ChangeLogCursor(max == null ? 0 : max, gapGrace);
+        long interval = pollInterval.toMillis();
+        poller.scheduleWithFixedDelay(() -> run(this::poll), interval, interval, TimeUnit.MILLISECONDS);
+        long prune = PRUNE_INTERVAL.toMillis();
+        poller.scheduleWithFixedDelay(() -> run(this::prune), prune, prune, TimeUnit.MILLISECONDS);
+        log.info("Scale-out mode: node {} polling the change log every {} ms", this.nodeId, interval);
+    }
+
+    /**
+     * Runs inside the writing transaction. Republished remote events arrive outside any
+     * transaction and are therefore not logged again.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onBankChange(BankChangeEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, event.changes(), POLL_BATCH_SIZE, (ps, change) -> {
+            ps.setLong(1, change.id());
+            ps.setString(2, change.type().name());
+            ps.setString(3, nodeId);
+            ps.setTimestamp(4, now);
+        });
+    }
+
+    @Override
+    public void destroy() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs on the polling thread only.
+     */
+    void poll() {
+        int read;
+        do {
+            long now = System.nanoTime();
+            cursor.expire(now);
+            List<Entry> entries = new ArrayList<>(jdbcTemplate.query(SELECT_AFTER_SQL, ENTRY_MAPPER, cursor.lastSeen()));
+            read = entries.size();
+            entries.addAll(readGaps());
+            entries.sort(Comparator.comparingLong(Entry::id));
+            List<BankChange> remote = new ArrayList<>();
+            for (Entry entry : entries) {
+                if (cursor.accept(entry.id(), now) && !nodeId.equals(entry.nodeId())) {
+                    remote.add(entry.change());
+                }
+            }
+            if (!remote.isEmpty()) {
+                eventPublisher.publishEvent(new BankChangeEvent(remote));
+            }
+        } while (read == POLL_BATCH_SIZE);
+    }
+
+    void prune() {
+        int deleted = jdbcTemplate.update("delete from bank_change_log where changed_at < ?",
+                Timestamp.from(Instant.now().minus(retention)));
+        if (deleted > 0) {
+            log.debug("Pruned {} change log rows", deleted);
+        }
+    }
+
+    private List<Entry> readGaps() {
+        if (cursor.gaps().isEmpty()) {
+            return List.of();
+        }
+        List<Long> gaps = new ArrayList<>(cursor.gaps());
+        List<Entry> found = new ArrayList<>();
+        for (int from = 0; from < gaps.size(); from += GAP_CHUNK_SIZE) {
+            List<Long> chunk = gaps.subList(from, Math.min(from + GAP_CHUNK_SIZE, gaps.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            found.addAll(jdbcTemplate.query(SELECT_IN_SQL + "(" + placeholders + ")", ENTRY_MAPPER, chunk.toArray()));
+        }
+        return found;
+    }
+
+    private void run(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException ex) {
+            log.warn("Change log task failed", ex);
+        }
+    }
+
+    private record Entry(long id, BankChange change, String nodeId) {
+    }
+}
@@ -1,14 +1,43 @@
 package com.openmatch.bank.controller;
 
+import com.openmatch.bank.dto.BankBulkDeleteResult;
+import com.openmatch.bank.dto.BankBulkResult;
+import com.openmatch.bank.dto.BankCacheStats;
+import com.openmatch.bank.dto.BankIngestStatus;
+import com.openmatch.bank.dto.BankLookupRequest;
+import com.openmatch.bank.dto.BankLookupResult;
+import com.openmatch.bank.dto.BankPage;
+import com.openmatch.bank.dto.BankPatchRequest;
 import com.openmatch.bank.dto.BankRequest;
 import com.openmatch.bank.dto.BankResponse;
+import com.openmatch.bank.dto.BankSearchCriteria;
+import com.openmatch.bank.dto.BankSuggestion;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.openmatch.bank.service.BankChangeFeed;
+import com.openmatch.bank.service.BankChangeTracker;
+import com.openmatch.bank.service.BankIngestQueue;
+import com.openmatch.bank.service.BankListSnapshot;
 import com.openmatch.bank.service.BankService;
+import com.openmatch.bank.service.BankSuggestIndex;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Instant;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * REST controller for banking entities CRUD.
@@ -18,39 +47,327 @@ import java.util.List;
 @RequestMapping("/api/banks")
 public class BankController {
 
+    /** Response header carrying the opaque cursor of the next page. */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /** Banks written to the export stream between two flushes. */
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+
+    /** Upper bound of the {@code limit} parameter of the suggest endpoint. */
+    private static final int MAX_SUGGESTIONS = 50;
+
     private final BankService bankService;
+    private final BankChangeTracker changeTracker;
+    private final BankListSnapshot listSnapshot;
+    private final BankSuggestIndex suggestIndex;
+    private final BankChangeFeed changeFeed;
+    private final BankIngestQueue ingestQueue;
+    private final ObjectMapper objectMapper;
 
-    public BankController(BankService bankService) {
+    public BankController(BankService bankService, BankChangeTracker changeTracker, BankListSnapshot listSnapshot,
+                          BankSuggestIndex suggestIndex, BankChangeFeed changeFeed, BankIngestQueue ingestQueue,
+                          ObjectMapper objectMapper) {
         this.bankService = bankService;
+        this.changeTracker = changeTracker;
+        this.listSnapshot = listSnapshot;
+        this.suggestIndex = suggestIndex;
+        this.changeFeed = changeFeed;
+        this.ingestQueue = ingestQueue;
+        this.objectMapper = objectMapper;
     }
 
+    /**
+     * Lists banks one page at a time. The body stays a plain JSON array; when more rows exist
+     * the cursor for the next page is returned in the {@value #NEXT_CURSOR_HEADER} header.
+     * A matching {@code If-None-Match} is answered with 304 before the database is queried, and
+     * the default page is served from the pre-serialised {@link BankListSnapshot} when enabled.
+     * That page is tagged with the snapshot's own sequence and its content coding, so the tag
+     * always describes the bytes it comes with.
+     */
     @GetMapping
-    public ResponseEntity<List<BankResponse>> listAll() {
-        List<BankResponse> list = bankService.findAll();
-        return ResponseEntity.ok(list);
+    public ResponseEntity<?> listAll(@RequestParam(required = false) String after,
+                                                      @RequestParam(required = false) Integer limit,
+                                                      @RequestParam(defaultValue = "id") String sort,
+                                                      WebRequest webRequest) {
+        if (after == null && limit == null && "id".equals(sort)) {
+            BankListSnapshot.Page snapshot = listSnapshot.current();
+            if (snapshot != null) {
+                boolean gzip = snapshot.gzip() != null
+                        && acceptsGzip(webRequest.getHeaderValues(HttpHeaders.ACCEPT_ENCODING));
+                if (webRequest.checkNotModified(changeTracker.snapshotEtag(snapshot.sequence(), gzip))) {
+                    return null;
+                }
+                return snapshotResponse(snapshot, gzip);
+            }
+        }
+        if (webRequest.checkNotModified(changeTracker.listEtag(after, limit, sort))) {
+            return null;
+        }
+        BankPage page = bankService.findPage(after, limit, sort);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return builder.body(page.items());
+    }
+
+    /**
+     * Filters banks by country, active flag, name prefix (case-sensitive) and creation date range
+     * ({@code createdFrom} inclusive, {@code createdTo} exclusive, ISO-8601). Paged like the list,
+     * by id, with the cursor in the {@value #NEXT_CURSOR_HEADER} header.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<BankResponse>> search(
+            @RequestParam(required = false) String country,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdTo,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        BankSearchCriteria criteria = new BankSearchCriteria(blankToNull(country), active, blankToNull(name),
+                createdFrom, createdTo);
+        BankPage page = bankService.search(criteria, after, limit);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return builder.body(page.items());
+    }
+
+    /**
+     * Typeahead over code and name (prefix of the code, the name or any word of the name),
+     * case- and accent-insensitive, served from the in-memory {@link BankSuggestIndex}.
+     * 404 unless {@code openmatch.bank.suggest.enabled} is set.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<BankSuggestion>> suggest(@RequestParam String q,
+                                                        @RequestParam(defaultValue = "10") int limit) {
+        if (!suggestIndex.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        List<BankSuggestion> suggestions = suggestIndex.suggest(q, Math.min(limit, MAX_SUGGESTIONS));
+        return ResponseEntity.ok(suggestions);
+    }
+
+    /**
+     * Server-sent stream of committed creates, updates and deletes. Resumes after
+     * {@code Last-Event-ID} (sent by browsers on reconnect) or {@code since}; if those changes
+     * are no longer buffered, or the id was issued by another instance or before a restart, a
+     * {@value BankChangeFeed#RESET_EVENT} event is sent first.
+     */
+    @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> changes(@RequestParam(required = false) String since,
+                                              @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        SseEmitter emitter = changeFeed.subscribe(lastEventId != null ? lastEventId : since);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
     }
 
+    /**
+     * Exports all banks as NDJSON (one JSON object per line). Rows are written to the
+     * response as they are read, so memory stays flat and the first bytes are sent right away.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = out -> {
+            try (SequenceWriter writer = objectMapper.writerFor(BankResponse.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator("\n")
+                    .writeValues(out)) {
+                long[] written = {0};
+                bankService.exportAll(bank -> {
+                    try {
+                        writer.write(bank);
+                        // Flush the first row right away, then in blocks
+                        if (written[0]++ % EXPORT_FLUSH_INTERVAL == 0) {
+                            writer.flush();
+                        }
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                writer.flush();
+                if (written[0] > 0) {
+                    out.write('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Single bank, tagged with its row version. Cached banks are answered with 304 without
+     * touching the database or serialising the body.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<BankResponse> getById(@PathVariable Long id) {
+    public ResponseEntity<BankResponse> getById(@PathVariable Long id, WebRequest webRequest) {
         BankResponse response = bankService.findById(id);
+        if (webRequest.checkNotModified(changeTracker.itemEtag(response))) {
+            return null;
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/code/{code}")
+    public ResponseEntity<BankResponse> getByCode(@PathVariable String code, WebRequest webRequest) {
+        BankResponse response = bankService.findByCode(code);
+        if (webRequest.checkNotModified(changeTracker.itemEtag(response))) {
+            return null;
+        }
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Resolves up to {@link BankService#MAX_LOOKUP_KEYS} ids and codes in one call, replacing
+     * one GET per bank. Every requested key gets an entry, in request order.
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<BankLookupResult> lookup(@RequestBody BankLookupRequest request) {
+        return ResponseEntity.ok(bankService.lookup(request.ids(), request.codes()));
+    }
+
+    /**
+     * Hit, miss and eviction counters of the in-process bank cache.
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<BankCacheStats> cacheStats() {
+        return ResponseEntity.ok(bankService.cacheStats());
+    }
+
     @PostMapping
     public ResponseEntity<BankResponse> create(@Valid @RequestBody BankRequest request) {
         BankResponse created = bankService.create(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    /**
+     * Asynchronous create for high-rate feeds: the bank is queued and written in a group commit
+     * with others. Answers 202 with the status URL in {@code Location}, 503 when the queue is
+     * full, and 404 unless {@code openmatch.bank.ingest.enabled} is set.
+     */
+    @PostMapping("/ingest")
+    public ResponseEntity<BankIngestStatus> ingest(@Valid @RequestBody BankRequest request) {
+        if (!ingestQueue.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        BankIngestQueue.Ticket ticket = ingestQueue.submit(request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/banks/ingest/" + ticket.id()))
+                .body(ingestQueue.status(ticket.id()));
+    }
+
+    /**
+     * State of an ingest ticket: PENDING until written, then CREATED, DUPLICATE or FAILED.
+     * Tickets are kept for {@code openmatch.bank.ingest.status-ttl}.
+     */
+    @GetMapping("/ingest/{ticket}")
+    public ResponseEntity<BankIngestStatus> ingestStatus(@PathVariable String ticket) {
+        BankIngestStatus status = ingestQueue.status(ticket);
+        return status == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(status);
+    }
+
+    /**
+     * Creates many banks in one call. With upsert=true, items whose code already exists
+     * update that bank; otherwise they are reported as duplicates.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BankBulkResult> bulkCreate(@RequestBody List<@Valid BankRequest> requests,
+                                                     @RequestParam(defaultValue = "false") boolean upsert) {
+        BankBulkResult result = bankService.bulkSave(requests, upsert);
+        return ResponseEntity.ok(result);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<BankResponse> update(@PathVariable Long id, @Valid @RequestBody BankRequest request) {
         BankResponse updated = bankService.update(id, request);
         return ResponseEntity.ok(updated);
     }
 
+    /**
+     * Partial update of the supplied fields; the body must carry the version the client read.
+     * Responds 409 if the bank was modified in the meantime.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<BankResponse> patch(@PathVariable Long id, @Valid @RequestBody BankPatchRequest request) {
+        BankResponse patched = bankService.patch(id, request);
+        return ResponseEntity.ok(patched);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         bankService.deleteById(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Bulk delete by id list ({@code ?ids=1,2,3}) or by filter ({@code ?active=false}, {@code ?country=Spain}).
+     */
+    @DeleteMapping
+    public ResponseEntity<BankBulkDeleteResult> bulkDelete(@RequestParam(required = false) List<Long> ids,
+                                                           @RequestParam(required = false) Boolean active,
+                                                           @RequestParam(required = false) String country) {
+        BankBulkDeleteResult result = bankService.bulkDelete(ids, active, country);
+        return ResponseEntity.ok(result);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static ResponseEntity<byte[]> snapshotResponse(BankListSnapshot.Page snapshot, boolean gzip) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (snapshot.nextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, snapshot.nextCursor());
+        }
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+        }
+        return builder.body(snapshot.json());
+    }
+
+    /**
+     * Whether {@code Accept-Encoding} allows gzip: listed as {@code gzip} (or {@code x-gzip}),
+     * or covered by {@code *}, with a q-value above zero. An explicit entry beats {@code *}.
+     */
+    static boolean acceptsGzip(String[] acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean gzip = null;
+        Boolean wildcard = null;
+        for (String header : acceptEncoding) {
+            for (String entry : header.split(",")) {
+                String[] parts = entry.split(";");
+                String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+                boolean accepted = qValue(parts) > 0;
+                if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                    gzip = accepted;
+                } else if (coding.equals("*")) {
+                    wildcard = accepted;
+                }
+            }
+        }
+        return gzip != null ? gzip : Boolean.TRUE.equals(wildcard);
+    }
+
+    private static double qValue(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
 }
@@ -1,47 +1,102 @@
 package com.openmatch.bank.controller;
 
+import com.openmatch.bank.dto.BankPage;
 import com.openmatch.bank.dto.BankResponse;
+import com.openmatch.bank.service.BankService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
- * Endpoint that consumes the query endpoint through an HTTP call to itself.
- * Performs GET to the same microservice (bank listing endpoint).
+ * Endpoint that consumes the bank listing of this same microservice.
+ * <p>
+ * By default ({@code openmatch.internal-query.mode=in-process}) the query is dispatched
+ * directly to {@link BankService}, without HTTP or JSON round trips. With
+ * {@code openmatch.internal-query.mode=http} it performs a real GET through the pooled
+ * {@link RestTemplate}; that mode holds two server threads per request. Any other mode fails
+ * startup.
  */
 @RestController
 @RequestMapping("/api/banks")
 public class InternalQueryController {
 
+    static final String MODE_IN_PROCESS = "in-process";
+    static final String MODE_HTTP = "http";
+
     private final RestTemplate restTemplate;
     private final Environment environment;
+    private final BankService bankService;
+    private final boolean http;
 
-    public InternalQueryController(RestTemplate restTemplate, Environment environment) {
+    public InternalQueryController(RestTemplate restTemplate, Environment environment, BankService bankService,
+                                   @Value("${openmatch.internal-query.mode:in-process}") String mode) {
         this.restTemplate = restTemplate;
         this.environment = environment;
+        this.bankService = bankService;
+        if (!MODE_IN_PROCESS.equalsIgnoreCase(mode) && !MODE_HTTP.equalsIgnoreCase(mode)) {
+            throw new IllegalArgumentException("openmatch.internal-query.mode must be " + MODE_IN_PROCESS
+                    + " or " + MODE_HTTP + ", was: " + mode);
+        }
+        this.http = MODE_HTTP.equalsIgnoreCase(mode);
     }
 
     /**
-     * Internal query: calls via HTTP the GET /api/banks endpoint of the same microservice
-     * and returns the result (bank list).
+     * Internal query: returns one page of GET /api/banks, either in-process or through an HTTP
+     * call to the same microservice. Paged like the list: the cursor of the next page is
+     * returned in the {@value BankController#NEXT_CURSOR_HEADER} header and passed back as {@code after}.
      */
     @GetMapping("/internal-query")
-    public ResponseEntity<List<BankResponse>> internalQuery() {
+    public ResponseEntity<List<BankResponse>> internalQuery(@RequestParam(required = false) String after) {
+        if (!http) {
+            BankPage page = bankService.findPage(after, null, null);
+            return withNextCursor(page.nextCursor()).body(page.items());
+        }
         String port = environment.getProperty("local.server.port", environment.getProperty("server.port", "8080"));
-        String url = "http://localhost:" + port + "/api/banks";
-        ResponseEntity<List<BankResponse>> response = restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                null,
-                new ParameterizedTypeReference<List<BankResponse>>() {}
-        );
-        return ResponseEntity.ok(response.getBody());
+        String url = UriComponentsBuilder.fromUriString("http://localhost:" + port + "/api/banks")
+                .queryParamIfPresent("after", Optional.ofNullable(after))
+                .encode()
+                .toUriString();
+        ResponseEntity<List<BankResponse>> response;
+        try {
+            response = restTemplate.exchange(
+                    url,
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<List<BankResponse>>() {}
+            );
+        } catch (HttpServerErrorException.ServiceUnavailable ex) {
+            // The loopback read was shed by admission control: pass the 503 on instead of a 500
+            String retryAfter = ex.getResponseHeaders() == null ? null
+                    : ex.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+            ResponseEntity.BodyBuilder rejected = ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE);
+            if (retryAfter != null) {
+                rejected.header(HttpHeaders.RETRY_AFTER, retryAfter);
+            }
+            return rejected.build();
+        }
+        return withNextCursor(response.getHeaders().getFirst(BankController.NEXT_CURSOR_HEADER))
+                .body(response.getBody());
+    }
+
+    private static ResponseEntity.BodyBuilder withNextCursor(String nextCursor) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (nextCursor != null) {
+            builder.header(BankController.NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return builder;
     }
 }
@@ -0,0 +1,6 @@
+package com.openmatch.bank.dto;
+
+/**
+ * Result of a bulk delete.
+ */
+public record BankBulkDeleteResult(long deleted) {}
@@ -0,0 +1,19 @@
+package com.openmatch.bank.dto;
+
+import java.util.List;
+
+/**
+ * Result of a bulk create/upsert. Totals plus one entry per submitted item, in request order.
+ */
+public record BankBulkResult(int created, int updated, int duplicates, List<Item> items) {
+
+    public enum Status {
+        CREATED, UPDATED, DUPLICATE
+    }
+
+    /**
+     * Outcome of one submitted item. For duplicates the id is the one of the existing bank,
+     * or null when the code was repeated inside the same request.
+     */
+    public record Item(int index, String code, Status status, Long id) {}
+}
@@ -0,0 +1,6 @@
+package com.openmatch.bank.dto;
+
+/**
+ * Counters of the in-process bank cache.
+ */
+public record BankCacheStats(long hits, long misses, long evictions, long size) {}
@@ -0,0 +1,9 @@
+package com.openmatch.bank.dto;
+
+import com.openmatch.bank.event.BankChange;
+
+/**
+ * One entry of the change feed. Sequence numbers increase by one per change and restart with
+ * every instance; the SSE event id qualifies them with the instance epoch.
+ */
+public record BankChangeNotification(long sequence, BankChange.Type type, Long id) {}
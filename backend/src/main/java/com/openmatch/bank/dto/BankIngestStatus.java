@@ -0,0 +1,16 @@
+package com.openmatch.bank.dto;
+
+/**
+ * State of one bank submitted to the asynchronous ingest. For duplicates the id is the one of
+ * the existing bank, or null when the same code was queued twice in one batch.
+ */
+public record BankIngestStatus(String ticket, State state, String code, Long id, String error) {
+
+    public enum State {
+        PENDING, CREATED, DUPLICATE, FAILED
+    }
+
+    public static BankIngestStatus pending(String ticket, String code) {
+        return new BankIngestStatus(ticket, State.PENDING, code, null, null);
+    }
+}
@@ -0,0 +1,8 @@
+package com.openmatch.bank.dto;
+
+import java.util.List;
+
+/**
+ * Batch lookup: banks to resolve by id and/or by code. Either list may be omitted.
+ */
+public record BankLookupRequest(List<Long> ids, List<String> codes) {}
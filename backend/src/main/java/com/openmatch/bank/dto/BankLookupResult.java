@@ -0,0 +1,16 @@
+package com.openmatch.bank.dto;
+
+import java.util.List;
+
+/**
+ * Result of a batch lookup: one entry per requested id and per requested code, each list in
+ * request order (repeated keys are repeated).
+ */
+public record BankLookupResult(List<Item> ids, List<Item> codes) {
+
+    /**
+     * One requested key: {@code id} for id lookups, {@code code} for code lookups. When
+     * {@code found} is false the bank is null.
+     */
+    public record Item(Long id, String code, boolean found, BankResponse bank) {}
+}
@@ -0,0 +1,9 @@
+package com.openmatch.bank.dto;
+
+import java.util.List;
+
+/**
+ * One page of banks plus the opaque cursor to request the next one.
+ * The cursor is null when there are no more pages.
+ */
+public record BankPage(List<BankResponse> items, String nextCursor) {}
@@ -0,0 +1,56 @@
+package com.openmatch.bank.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO for partial updates. Only non-null fields are applied, so a field cannot be cleared this
+ * way; {@code version} must match the current version of the bank (optimistic concurrency).
+ */
+public class BankPatchRequest {
+
+    @NotNull(message = "Version is required")
+    private Long version;
+
+    @Size(min = 1, max = 200)
+    @Pattern(regexp = "(?s).*\\S.*", message = "Name must not be blank")
+    private String name;
+
+    @Size(max = 100)
+    private String country;
+
+    private Boolean active;
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public void setCountry(String country) {
+        this.country = country;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+}
@@ -13,17 +13,20 @@ public class BankResponse {
     private String country;
     private boolean active;
     private Instant creationDate;
+    private Long version;
 
     public BankResponse() {
     }
 
-    public BankResponse(Long id, String code, String name, String country, boolean active, Instant creationDate) {
+    public BankResponse(Long id, String code, String name, String country, boolean active, Instant creationDate,
+                        Long version) {
         this.id = id;
         this.code = code;
         this.name = name;
         this.country = country;
         this.active = active;
         this.creationDate = creationDate;
+        this.version = version;
     }
 
     public Long getId() {
@@ -73,4 +76,12 @@ public class BankResponse {
     public void setCreationDate(Instant creationDate) {
         this.creationDate = creationDate;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,10 @@
+package com.openmatch.bank.dto;
+
+import java.time.Instant;
+
+/**
+ * Optional filters of the bank search. Null means "any value"; the creation date
+ * range is inclusive of {@code createdFrom} and exclusive of {@code createdTo}.
+ */
+public record BankSearchCriteria(String country, Boolean active, String namePrefix,
+                                 Instant createdFrom, Instant createdTo) {}
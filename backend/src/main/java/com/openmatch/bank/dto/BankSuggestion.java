@@ -0,0 +1,6 @@
+package com.openmatch.bank.dto;
+
+/**
+ * One typeahead match: enough to render and select a bank.
+ */
+public record BankSuggestion(Long id, String code, String name) {}
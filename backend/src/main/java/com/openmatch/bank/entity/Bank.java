@@ -10,16 +10,32 @@ import java.time.Instant;
  * Banking entity. Represents a bank with unique code to avoid duplicates.
  */
 @Entity
-@Table(name = "bank", indexes = @Index(unique = true, columnList = "code"))
+@Table(name = "bank", indexes = {
+        @Index(name = Bank.CODE_INDEX, unique = true, columnList = "code"),
+        // Search filters; trailing id keeps equality matches in keyset (id) order
+        @Index(name = "ix_bank_country_active", columnList = "country, active, id"),
+        @Index(name = "ix_bank_active", columnList = "active, id"),
+        @Index(name = "ix_bank_name", columnList = "name"),
+        @Index(name = "ix_bank_creation_date", columnList = "creation_date")
+})
 public class Bank {
 
+    /** Name of the unique index on code; duplicate inserts are detected by its violation. */
+    public static final String CODE_INDEX = "ux_bank_code";
+
+    /** Sequence backing the id, and the number of ids Hibernate reserves per sequence call. */
+    public static final String ID_SEQUENCE = "bank_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotBlank
     @Size(min = 1, max = 20)
-    @Column(nullable = false, unique = true, length = 20)
+    @Column(nullable = false, length = 20)
     private String code;
 
     @NotBlank
@@ -37,6 +53,11 @@ public class Bank {
     @Column(name = "creation_date", nullable = false, updatable = false)
     private Instant creationDate;
 
+    // Optimistic concurrency: incremented on every update
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         creationDate = Instant.now();
@@ -89,4 +110,12 @@ public class Bank {
     public void setCreationDate(Instant creationDate) {
         this.creationDate = creationDate;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
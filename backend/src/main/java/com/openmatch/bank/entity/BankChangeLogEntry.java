@@ -0,0 +1,55 @@
+package com.openmatch.bank.entity;
+
+import com.openmatch.bank.event.BankChange;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * One committed bank write, shared by all nodes of a scale-out deployment through the database.
+ * Only written in scale-out mode; mapped so that schema generation creates the table.
+ */
+@Entity
+@Table(name = "bank_change_log", indexes = {
+        @Index(name = "ix_bank_change_log_changed_at", columnList = "changed_at")
+})
+public class BankChangeLogEntry {
+
+    // IDENTITY: one counter in the database, so ids follow insert order across all nodes
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "bank_id", nullable = false)
+    private Long bankId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private BankChange.Type type;
+
+    @Column(name = "node_id", nullable = false, length = 64)
+    private String nodeId;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getBankId() {
+        return bankId;
+    }
+
+    public BankChange.Type getType() {
+        return type;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+}
@@ -0,0 +1,23 @@
+package com.openmatch.bank.event;
+
+/**
+ * A single committed change on a bank row.
+ */
+public record BankChange(Type type, Long id) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static BankChange created(Long id) {
+        return new BankChange(Type.CREATED, id);
+    }
+
+    public static BankChange updated(Long id) {
+        return new BankChange(Type.UPDATED, id);
+    }
+
+    public static BankChange deleted(Long id) {
+        return new BankChange(Type.DELETED, id);
+    }
+}
@@ -0,0 +1,17 @@
+package com.openmatch.bank.event;
+
+import java.util.List;
+
+/**
+ * Application event published by the bank service for every write operation.
+ * Listeners that keep read state (caches, indexes) should handle it after commit
+ * with {@code @TransactionalEventListener}, so they never observe rolled back changes.
+ * In scale-out mode the writes of other nodes are republished outside any transaction, so
+ * those listeners also set {@code fallbackExecution}.
+ */
+public record BankChangeEvent(List<BankChange> changes) {
+
+    public static BankChangeEvent of(BankChange change) {
+        return new BankChangeEvent(List.of(change));
+    }
+}
@@ -1,11 +1,15 @@
 package com.openmatch.bank.exception;
 
 /**
- * Exception when a banking entity is not found by id.
+ * Exception when a banking entity is not found by id or code.
  */
 public class BankNotFoundException extends RuntimeException {
 
     public BankNotFoundException(Long id) {
         super("Bank not found with id: " + id);
     }
+
+    public BankNotFoundException(String code) {
+        super("Bank not found with code: " + code);
+    }
 }
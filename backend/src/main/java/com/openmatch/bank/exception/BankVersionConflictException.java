@@ -0,0 +1,11 @@
+package com.openmatch.bank.exception;
+
+/**
+ * Exception when a bank was modified by someone else since the version the client read.
+ */
+public class BankVersionConflictException extends RuntimeException {
+
+    public BankVersionConflictException(Long id, Long version) {
+        super("Bank " + id + " is no longer at version " + version);
+    }
+}
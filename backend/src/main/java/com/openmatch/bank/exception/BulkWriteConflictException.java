@@ -0,0 +1,12 @@
+package com.openmatch.bank.exception;
+
+/**
+ * Exception when a concurrent request created one of the codes of a bulk request after it was
+ * checked. The whole request is rolled back; retrying it reports those items as duplicates.
+ */
+public class BulkWriteConflictException extends RuntimeException {
+
+    public BulkWriteConflictException() {
+        super("A bank with one of the codes was created concurrently; retry the request");
+    }
+}
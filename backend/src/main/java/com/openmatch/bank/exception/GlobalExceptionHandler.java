@@ -1,10 +1,16 @@
 package com.openmatch.bank.exception;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.time.Instant;
 import java.util.HashMap;
@@ -13,13 +19,21 @@ import java.util.stream.Collectors;
 
 /**
  * Global exception handling. Controller Advice pattern.
- * Returns consistent HTTP responses for business and validation errors.
+ * Returns consistent HTTP responses for business and validation errors,
+ * and counts every handled error by exception type and status ({@code bank.errors}).
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(BankNotFoundException.class)
     public ResponseEntity<ErrorBody> handleBankNotFound(BankNotFoundException ex) {
+        countError(ex, HttpStatus.NOT_FOUND);
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
                 new ErrorBody(HttpStatus.NOT_FOUND.value(), ex.getMessage(), Instant.now())
         );
@@ -27,29 +41,102 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(DuplicateBankException.class)
     public ResponseEntity<ErrorBody> handleDuplicateBank(DuplicateBankException ex) {
+        countError(ex, HttpStatus.CONFLICT);
         return ResponseEntity.status(HttpStatus.CONFLICT).body(
                 new ErrorBody(HttpStatus.CONFLICT.value(), ex.getMessage(), Instant.now())
         );
     }
 
+    @ExceptionHandler(BulkWriteConflictException.class)
+    public ResponseEntity<ErrorBody> handleBulkWriteConflict(BulkWriteConflictException ex) {
+        countError(ex, HttpStatus.CONFLICT);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                new ErrorBody(HttpStatus.CONFLICT.value(), ex.getMessage(), Instant.now())
+        );
+    }
+
+    @ExceptionHandler(BankVersionConflictException.class)
+    public ResponseEntity<ErrorBody> handleVersionConflict(BankVersionConflictException ex) {
+        countError(ex, HttpStatus.CONFLICT);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                new ErrorBody(HttpStatus.CONFLICT.value(), ex.getMessage(), Instant.now())
+        );
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorBody> handleOptimisticLock(OptimisticLockingFailureException ex) {
+        countError(ex, HttpStatus.CONFLICT);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                new ErrorBody(HttpStatus.CONFLICT.value(), "Bank was modified concurrently", Instant.now())
+        );
+    }
+
+    @ExceptionHandler(InvalidBankRequestException.class)
+    public ResponseEntity<ErrorBody> handleInvalidRequest(InvalidBankRequestException ex) {
+        countError(ex, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                new ErrorBody(HttpStatus.BAD_REQUEST.value(), ex.getMessage(), Instant.now())
+        );
+    }
+
+    @ExceptionHandler(IngestQueueFullException.class)
+    public ResponseEntity<ErrorBody> handleIngestQueueFull(IngestQueueFullException ex) {
+        countError(ex, HttpStatus.SERVICE_UNAVAILABLE);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorBody(HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage(), Instant.now()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidation(MethodArgumentNotValidException ex) {
+        countError(ex, HttpStatus.BAD_REQUEST);
         String errors = ex.getBindingResult().getFieldErrors().stream()
                 .map(e -> e.getField() + ": " + e.getDefaultMessage())
                 .collect(Collectors.joining("; "));
-        Map<String, Object> body = new HashMap<>();
-        body.put("status", HttpStatus.BAD_REQUEST.value());
-        body.put("message", "Validation error: " + errors);
-        body.put("timestamp", Instant.now());
-        return ResponseEntity.badRequest().body(body);
+        return validationError(errors);
+    }
+
+    /**
+     * Validation errors of method parameters, e.g. the items of a bulk request body.
+     */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<Map<String, Object>> handleMethodValidation(HandlerMethodValidationException ex) {
+        countError(ex, HttpStatus.BAD_REQUEST);
+        String errors = ex.getAllErrors().stream()
+                .map(this::describe)
+                .collect(Collectors.joining("; "));
+        return validationError(errors);
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorBody> handleGeneric(Exception ex) {
+        countError(ex, HttpStatus.INTERNAL_SERVER_ERROR);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
                 new ErrorBody(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Internal server error", Instant.now())
         );
     }
 
+    private void countError(Exception ex, HttpStatus status) {
+        meterRegistry.counter("bank.errors",
+                "exception", ex.getClass().getSimpleName(),
+                "status", String.valueOf(status.value())
+        ).increment();
+    }
+
+    private ResponseEntity<Map<String, Object>> validationError(String errors) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("status", HttpStatus.BAD_REQUEST.value());
+        body.put("message", "Validation error: " + errors);
+        body.put("timestamp", Instant.now());
+        return ResponseEntity.badRequest().body(body);
+    }
+
+    private String describe(MessageSourceResolvable error) {
+        if (error instanceof FieldError fieldError) {
+            return fieldError.getField() + ": " + fieldError.getDefaultMessage();
+        }
+        return error.getDefaultMessage();
+    }
+
     public record ErrorBody(int status, String message, Instant timestamp) {}
 }
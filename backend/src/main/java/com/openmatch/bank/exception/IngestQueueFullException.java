@@ -0,0 +1,11 @@
+package com.openmatch.bank.exception;
+
+/**
+ * Exception when the asynchronous ingest queue is full; the client should retry later.
+ */
+public class IngestQueueFullException extends RuntimeException {
+
+    public IngestQueueFullException(int capacity) {
+        super("Ingest queue is full (" + capacity + " pending banks), retry later");
+    }
+}
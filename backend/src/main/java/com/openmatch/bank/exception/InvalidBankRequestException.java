@@ -0,0 +1,12 @@
+package com.openmatch.bank.exception;
+
+/**
+ * Exception when the query parameters of a bank request are not valid
+ * (malformed cursor, unknown sort key, out of range values).
+ */
+public class InvalidBankRequestException extends RuntimeException {
+
+    public InvalidBankRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,155 @@
+package com.openmatch.bank.persistence;
+
+import com.openmatch.bank.dto.BankResponse;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of bank writes since the last snapshot, split in numbered segments.
+ * <p>
+ * Each entry is its payload length, a CRC32 of the payload and the payload: {@code 'U'} and
+ * the full bank, or {@code 'D'} and the id. Entries carry state, not deltas, so replaying an
+ * entry twice is harmless. Replay stops at the first torn or corrupt entry, which can only be
+ * the tail of a segment that was being written during a crash; a restarted process always
+ * appends to a fresh segment.
+ */
+final class BankChangeLog implements Closeable {
+
+    private static final byte UPSERT = 'U';
+    private static final byte DELETE = 'D';
+    private static final String PREFIX = "changes-";
+    private static final String SUFFIX = ".log";
+
+    private final long segment;
+    private final FileChannel channel;
+
+    private BankChangeLog(long segment, FileChannel channel) {
+        this.segment = segment;
+        this.channel = channel;
+    }
+
+    static BankChangeLog open(Path dir, long segment) throws IOException {
+        FileChannel channel = FileChannel.open(segmentPath(dir, segment), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        return new BankChangeLog(segment, channel);
+    }
+
+    long segment() {
+        return segment;
+    }
+
+    /**
+     * Appends the current state of changed banks and the ids of deleted ones in one write.
+     * The data reaches the OS right away (it survives a process crash); it is forced to disk
+     * on {@link #force()}, on close and with every snapshot.
+     */
+    void append(Collection<BankResponse> upserts, Collection<Long> deletes) throws IOException {
+        int size = upserts.size() * (8 + 1 + BankRecordCodec.MAX_RECORD_SIZE) + deletes.size() * (8 + 1 + 8);
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        CRC32 crc = new CRC32();
+        for (BankResponse bank : upserts) {
+            int start = buffer.position();
+            buffer.position(start + 8);
+            buffer.put(UPSERT);
+            BankRecordCodec.write(buffer, bank);
+            seal(buffer, start, crc);
+        }
+        for (Long id : deletes) {
+            int start = buffer.position();
+            buffer.position(start + 8);
+            buffer.put(DELETE).putLong(id);
+            seal(buffer, start, crc);
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            force();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Replays the valid entries of one segment in order.
+     */
+    static void replay(Path file, Consumer<BankResponse> onUpsert, LongConsumer onDelete) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return;
+            }
+            MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            CRC32 crc = new CRC32();
+            while (in.remaining() >= 8) {
+                int length = in.getInt();
+                long expected = in.getInt() & 0xFFFFFFFFL;
+                if (length <= 0 || length > in.remaining()) {
+                    return;
+                }
+                ByteBuffer payload = in.slice(in.position(), length);
+                crc.reset();
+                crc.update(payload.duplicate());
+                if (crc.getValue() != expected) {
+                    return;
+                }
+                in.position(in.position() + length);
+                if (payload.get() == UPSERT) {
+                    onUpsert.accept(BankRecordCodec.read(payload));
+                } else {
+                    onDelete.accept(payload.getLong());
+                }
+            }
+        }
+    }
+
+    /**
+     * Segment numbers present in the directory, in ascending order.
+     */
+    static List<Long> segments(Path dir) throws IOException {
+        List<Long> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                    .forEach(name -> segments.add(
+                            Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()))));
+        }
+        segments.sort(null);
+        return segments;
+    }
+
+    static Path segmentPath(Path dir, long segment) {
+        return dir.resolve(String.format("%s%019d%s", PREFIX, segment, SUFFIX));
+    }
+
+    private static void seal(ByteBuffer buffer, int start, CRC32 crc) {
+        int length = buffer.position() - start - 8;
+        crc.reset();
+        crc.update(buffer.slice(start + 8, length));
+        buffer.putInt(start, length);
+        buffer.putInt(start + 4, (int) crc.getValue());
+    }
+}
@@ -0,0 +1,272 @@
+package com.openmatch.bank.persistence;
+
+import com.openmatch.bank.dto.BankResponse;
+import com.openmatch.bank.entity.Bank;
+import com.openmatch.bank.event.BankChange;
+import com.openmatch.bank.event.BankChangeEvent;
+import com.openmatch.bank.repository.BankRepository;
+import com.openmatch.bank.service.BankService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Optional persistence for the in-memory H2 database: a periodic binary snapshot of the bank
+ * table plus an append-only change log of writes since that snapshot, both in
+ * {@code openmatch.bank.persistence.dir}. Enable with {@code openmatch.bank.persistence.enabled}.
+ * <p>
+ * At startup, before the application serves requests, the snapshot is memory-mapped and
+ * bulk-loaded with batched JDBC inserts, the log segments it does not cover are replayed on top
+ * in order (the last entry for an id wins, so an id deleted and later created again is restored)
+ * and the id sequence is moved past every id seen in the snapshot or the log, deleted ones
+ * included, so no logged id is handed out again.
+ * <p>
+ * Log appends and snapshots run on one background thread, in commit-notification order, so
+ * writers never wait for the disk. A snapshot first switches the log to a new segment, then
+ * exports the table, renames the snapshot into place and only then deletes the old segments;
+ * a crash at any point leaves a snapshot plus the segments needed to roll it forward.
+ * Writes committed in the last milliseconds before a crash may not be logged yet.
+ * <p>
+ * Persistence is for a single instance with an in-memory database; startup fails when scale-out
+ * mode ({@code openmatch.cluster.enabled}) is enabled too.
+ */
+@Component
+public class BankPersistence implements SmartInitializingSingleton, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BankPersistence.class);
+
+    private static final int LOAD_BATCH_SIZE = 5_000;
+    private static final int RELOAD_CHUNK_SIZE = 1_000;
+    private static final String INSERT_SQL = "insert into bank (id, code, name, country, active, creation_date, version) "
+            + "values (?, ?, ?, ?, ?, ?, ?)";
+
+    private final BankService bankService;
+    private final BankRepository bankRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Path dir;
+    private final Duration snapshotInterval;
+    private final ScheduledExecutorService worker;
+    private BankChangeLog changeLog;
+
+    public BankPersistence(BankService bankService, BankRepository bankRepository, JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${openmatch.bank.persistence.enabled:false}") boolean enabled,
+                           @Value("${openmatch.bank.persistence.dir:data}") Path dir,
+                           @Value("${openmatch.bank.persistence.snapshot-interval:10m}") Duration snapshotInterval,
+                           @Value("${openmatch.cluster.enabled:false}") boolean clusterEnabled) {
+        if (enabled && clusterEnabled) {
+            // Every node would restore its own files into the shared database and reset its sequence
+            throw new IllegalStateException(
+                    "openmatch.bank.persistence.enabled cannot be combined with openmatch.cluster.enabled");
+        }
+        this.bankService = bankService;
+        this.bankRepository = bankRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.dir = dir;
+        this.snapshotInterval = snapshotInterval;
+        this.worker = enabled ? Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "bank-persistence");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.createDirectories(dir);
+            long nextSegment = restore();
+            changeLog = BankChangeLog.open(dir, nextSegment);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not restore banks from " + dir.toAbsolutePath(), ex);
+        }
+        long interval = snapshotInterval.toMillis();
+        worker.scheduleWithFixedDelay(() -> run(this::snapshot), interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBankChange(BankChangeEvent event) {
+        if (!enabled) {
+            return;
+        }
+        List<Long> ids = event.changes().stream().map(BankChange::id).toList();
+        worker.execute(() -> run(() -> append(ids)));
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (worker == null) {
+            return;
+        }
+        worker.shutdown();
+        if (!worker.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Bank persistence did not finish pending log writes");
+        }
+        if (changeLog != null) {
+            changeLog.close();
+        }
+    }
+
+    /**
+     * Loads snapshot and log into the database.
+     *
+     * @return segment number for the new change log
+     */
+    long restore() throws IOException {
+        long start = System.nanoTime();
+        Path snapshot = dir.resolve(BankSnapshotFile.FILE_NAME);
+        List<Long> segments = BankChangeLog.segments(dir);
+        long firstSegment = 0;
+        if (Files.exists(snapshot)) {
+            firstSegment = BankSnapshotFile.readFirstSegment(snapshot);
+        }
+        // Final state of every logged id: the bank, or absent from logged and present in deleted
+        Map<Long, BankResponse> logged = new HashMap<>();
+        Set<Long> deleted = new HashSet<>();
+        long[] maxId = {0};
+        for (long segment : segments) {
+            if (segment >= firstSegment) {
+                BankChangeLog.replay(BankChangeLog.segmentPath(dir, segment),
+                        bank -> {
+                            deleted.remove(bank.getId());
+                            logged.put(bank.getId(), bank);
+                            maxId[0] = Math.max(maxId[0], bank.getId());
+                        },
+                        id -> {
+                            logged.remove(id);
+                            deleted.add(id);
+                            maxId[0] = Math.max(maxId[0], id);
+                        });
+            }
+        }
+        long[] loaded = {0};
+        List<BankResponse> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+        if (Files.exists(snapshot)) {
+            BankSnapshotFile.read(snapshot, bank -> {
+                maxId[0] = Math.max(maxId[0], bank.getId());
+                if (deleted.contains(bank.getId())) {
+                    return;
+                }
+                // Log entries are written after the snapshot export read the row, so they are never older
+                BankResponse logState = logged.remove(bank.getId());
+                batch.add(logState == null ? bank : logState);
+                if (batch.size() == LOAD_BATCH_SIZE) {
+                    loaded[0] += insert(batch);
+                }
+            });
+        }
+        for (BankResponse bank : logged.values()) {
+            batch.add(bank);
+            if (batch.size() == LOAD_BATCH_SIZE) {
+                loaded[0] += insert(batch);
+            }
+        }
+        loaded[0] += insert(batch);
+        if (maxId[0] > 0) {
+            jdbcTemplate.execute("alter sequence " + Bank.ID_SEQUENCE + " restart with "
+                    + (maxId[0] + Bank.ID_ALLOCATION_SIZE + 1));
+        }
+        if (loaded[0] > 0) {
+            log.info("Restored {} banks from {} in {} ms", loaded[0], dir.toAbsolutePath(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        long last = segments.isEmpty() ? firstSegment : segments.get(segments.size() - 1) + 1;
+        return Math.max(firstSegment, last);
+    }
+
+    /**
+     * Runs on the persistence thread only.
+     */
+    void snapshot() throws IOException {
+        long start = System.nanoTime();
+        long first = changeLog.segment() + 1;
+        changeLog.close();
+        changeLog = BankChangeLog.open(dir, first);
+        long count = BankSnapshotFile.write(dir, first, bankService::exportAll);
+        for (long segment : BankChangeLog.segments(dir)) {
+            if (segment < first) {
+                Files.deleteIfExists(BankChangeLog.segmentPath(dir, segment));
+            }
+        }
+        log.info("Wrote snapshot of {} banks in {} ms", count,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Runs on the persistence thread only. Logs the current state of the changed banks.
+     */
+    void append(List<Long> ids) throws IOException {
+        for (int from = 0; from < ids.size(); from += RELOAD_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + RELOAD_CHUNK_SIZE, ids.size()));
+            Set<Long> missing = new LinkedHashSet<>(chunk);
+            List<BankResponse> present = bankRepository.findResponsesByIdIn(chunk);
+            present.forEach(bank -> missing.remove(bank.getId()));
+            changeLog.append(present, missing);
+        }
+    }
+
+    /**
+     * One JDBC batch in its own transaction, so the load does not build one huge undo log.
+     */
+    private int insert(List<BankResponse> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, bank) -> {
+                    ps.setLong(1, bank.getId());
+                    ps.setString(2, bank.getCode());
+                    ps.setString(3, bank.getName());
+                    ps.setString(4, bank.getCountry());
+                    ps.setBoolean(5, bank.isActive());
+                    ps.setObject(6, bank.getCreationDate().atOffset(ZoneOffset.UTC));
+                    ps.setLong(7, bank.getVersion());
+                }));
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    private void run(IoTask task) {
+        try {
+            task.run();
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Bank persistence task failed", ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoTask {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,64 @@
+package com.openmatch.bank.persistence;
+
+import com.openmatch.bank.dto.BankResponse;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Binary layout of one bank, shared by the snapshot and the change log:
+ * id (8), version (8), active (1), creation date as epoch seconds (8) and nanos (4),
+ * then code, name and country as a 2-byte length (-1 for null) followed by UTF-8 bytes.
+ */
+final class BankRecordCodec {
+
+    /** Upper bound of an encoded bank, from the column lengths (UTF-8, up to 4 bytes per char). */
+    static final int MAX_RECORD_SIZE = 8 + 8 + 1 + 8 + 4 + 3 * 2 + 4 * (20 + 200 + 100);
+
+    private BankRecordCodec() {
+    }
+
+    static void write(ByteBuffer out, BankResponse bank) {
+        out.putLong(bank.getId());
+        out.putLong(bank.getVersion() == null ? 0L : bank.getVersion());
+        out.put((byte) (bank.isActive() ? 1 : 0));
+        Instant created = bank.getCreationDate() == null ? Instant.EPOCH : bank.getCreationDate();
+        out.putLong(created.getEpochSecond());
+        out.putInt(created.getNano());
+        writeString(out, bank.getCode());
+        writeString(out, bank.getName());
+        writeString(out, bank.getCountry());
+    }
+
+    static BankResponse read(ByteBuffer in) {
+        long id = in.getLong();
+        long version = in.getLong();
+        boolean active = in.get() != 0;
+        Instant created = Instant.ofEpochSecond(in.getLong(), in.getInt());
+        String code = readString(in);
+        String name = readString(in);
+        String country = readString(in);
+        return new BankResponse(id, code, name, country, active, created, version);
+    }
+
+    private static void writeString(ByteBuffer out, String value) {
+        if (value == null) {
+            out.putShort((short) -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        short length = in.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
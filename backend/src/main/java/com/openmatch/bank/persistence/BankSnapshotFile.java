@@ -0,0 +1,172 @@
+package com.openmatch.bank.persistence;
+
+import com.openmatch.bank.dto.BankResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Full binary snapshot of the bank table.
+ * <p>
+ * Layout: magic, format version and the first change-log segment not covered by the snapshot;
+ * then each bank prefixed with a 1 byte; then a 0 byte, the bank count and a CRC32 of
+ * everything before it. A snapshot is written to a temporary file, forced to disk and moved
+ * over the previous one atomically, so a crash leaves either the old or the new file, and
+ * the CRC rejects anything else.
+ */
+final class BankSnapshotFile {
+
+    static final String FILE_NAME = "banks.snap";
+
+    private static final int MAGIC = 0x4F4D4253; // "OMBS"
+    private static final int FORMAT = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8;
+    private static final int TRAILER_SIZE = 1 + 8 + 8;
+    private static final int BUFFER_SIZE = 1 << 20;
+    /** Bytes mapped at a time when reading; a single mapping is limited to 2 GB. */
+    private static final int WINDOW_SIZE = 1 << 30;
+
+    private BankSnapshotFile() {
+    }
+
+    /**
+     * Writes a snapshot with the banks handed to the consumer by {@code source}.
+     *
+     * @return number of banks written
+     */
+    static long write(Path dir, long firstSegment, Consumer<Consumer<BankResponse>> source) throws IOException {
+        Path target = dir.resolve(FILE_NAME);
+        Path tmp = dir.resolve(FILE_NAME + ".tmp");
+        CRC32 crc = new CRC32();
+        long[] count = {0};
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            buffer.putInt(MAGIC).putInt(FORMAT).putLong(firstSegment);
+            source.accept(bank -> {
+                if (buffer.remaining() < BankRecordCodec.MAX_RECORD_SIZE + 1) {
+                    drain(channel, buffer, crc);
+                }
+                buffer.put((byte) 1);
+                BankRecordCodec.write(buffer, bank);
+                count[0]++;
+            });
+            if (buffer.remaining() < TRAILER_SIZE) {
+                drain(channel, buffer, crc);
+            }
+            buffer.put((byte) 0).putLong(count[0]);
+            drain(channel, buffer, crc);
+            buffer.putLong(crc.getValue());
+            drain(channel, buffer, null);
+            channel.force(true);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        forceDirectory(dir);
+        return count[0];
+    }
+
+    /**
+     * Memory-maps and verifies the snapshot, then hands every bank to the sink.
+     *
+     * @return the first change-log segment to replay on top of the snapshot
+     * @throws IOException if the file is truncated or its checksum does not match
+     */
+    static long read(Path file, Consumer<BankResponse> sink) throws IOException {
+        return read(file, sink, WINDOW_SIZE);
+    }
+
+    /**
+     * Same as {@link #read(Path, Consumer)}, mapping at most {@code windowSize} bytes at a time:
+     * a mapping cannot exceed 2 GB, so larger snapshots are checksummed and read window by
+     * window. A window is moved forward before it has less than one record left.
+     */
+    static long read(Path file, Consumer<BankResponse> sink, int windowSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + TRAILER_SIZE) {
+                throw new IOException("Snapshot too short: " + file);
+            }
+            long checksummed = size - 8;
+            CRC32 crc = new CRC32();
+            for (long offset = 0; offset < checksummed; offset += windowSize) {
+                crc.update(channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(windowSize, checksummed - offset)));
+            }
+            if (crc.getValue() != channel.map(FileChannel.MapMode.READ_ONLY, checksummed, 8).getLong()) {
+                throw new IOException("Snapshot checksum mismatch: " + file);
+            }
+            long offset = 0;
+            MappedByteBuffer in = map(channel, offset, size, windowSize);
+            if (in.getInt() != MAGIC || in.getInt() != FORMAT) {
+                throw new IOException("Not a bank snapshot: " + file);
+            }
+            long firstSegment = in.getLong();
+            while (true) {
+                if (in.remaining() <= BankRecordCodec.MAX_RECORD_SIZE && offset + in.limit() < size) {
+                    offset += in.position();
+                    in = map(channel, offset, size, windowSize);
+                }
+                if (in.get() != 1) {
+                    return firstSegment;
+                }
+                sink.accept(BankRecordCodec.read(in));
+            }
+        }
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long offset, long size, int windowSize) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(windowSize, size - offset));
+    }
+
+    /**
+     * Reads only the header, to know which log segments to replay before loading the rows.
+     */
+    static long readFirstSegment(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE + TRAILER_SIZE) {
+                throw new IOException("Snapshot too short: " + file);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC || header.getInt() != FORMAT) {
+                throw new IOException("Not a bank snapshot: " + file);
+            }
+            return header.getLong();
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer, CRC32 crc) {
+        buffer.flip();
+        if (crc != null) {
+            crc.update(buffer.duplicate());
+        }
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Makes the rename durable. Not supported on every platform, where it is a no-op.
+     */
+    static void forceDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ex) {
+            // Windows cannot open directories; the rename is still atomic
+        }
+    }
+}
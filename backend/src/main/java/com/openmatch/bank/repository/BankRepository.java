@@ -1,18 +1,109 @@
 package com.openmatch.bank.repository;
 
+import com.openmatch.bank.dto.BankResponse;
 import com.openmatch.bank.entity.Bank;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for banking entity. Repository pattern.
  */
-public interface BankRepository extends JpaRepository<Bank, Long> {
+public interface BankRepository extends JpaRepository<Bank, Long>, JpaSpecificationExecutor<Bank>, BankRepositoryCustom {
+
+    /**
+     * Constructor projection for read paths: Hibernate builds the response straight from the
+     * selected columns, with no managed entity, no persistence-context entry and no snapshot
+     * for dirty checking.
+     */
+    String SELECT_RESPONSE = "select new com.openmatch.bank.dto.BankResponse("
+            + "b.id, b.code, b.name, b.country, b.active, b.creationDate, b.version) from Bank b ";
 
     Optional<Bank> findByCode(String code);
 
     boolean existsByCode(String code);
 
     boolean existsByCodeAndIdNot(String code, Long id);
+
+    List<Bank> findByCodeIn(Collection<String> codes);
+
+    @Query(SELECT_RESPONSE + "where b.id = :id")
+    Optional<BankResponse> findResponseById(@Param("id") Long id);
+
+    @Query(SELECT_RESPONSE + "where b.code = :code")
+    Optional<BankResponse> findResponseByCode(@Param("code") String code);
+
+    @Query(SELECT_RESPONSE + "where b.id in :ids")
+    List<BankResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SELECT_RESPONSE + "where b.code in :codes")
+    List<BankResponse> findResponsesByCodeIn(@Param("codes") Collection<String> codes);
+
+    /**
+     * Keyset page on the primary key: rows with id greater than the last one seen.
+     */
+    @Query(SELECT_RESPONSE + "where b.id > :afterId order by b.id")
+    List<BankResponse> findResponsesAfterId(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Keyset page on the unique code index: rows with code greater than the last one seen.
+     */
+    @Query(SELECT_RESPONSE + "where b.code > :afterCode order by b.code")
+    List<BankResponse> findResponsesAfterCode(@Param("afterCode") String afterCode, Limit limit);
+
+    /**
+     * Forward-only cursor over the whole table in primary key order.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_RESPONSE + "order by b.id")
+    Stream<BankResponse> streamResponses();
+
+    /**
+     * Applies the non-null fields in one conditional UPDATE, only if the row is still at the
+     * expected version, and increments the version. A null argument leaves the column unchanged,
+     * so a patch cannot clear {@code country}; a full update (PUT) can.
+     *
+     * @return number of updated rows: 0 when the bank does not exist or the version is stale
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Bank b set b.name = coalesce(:name, b.name), b.country = coalesce(:country, b.country), "
+            + "b.active = coalesce(:active, b.active), b.version = b.version + 1 "
+            + "where b.id = :id and b.version = :version")
+    int patch(@Param("id") Long id, @Param("version") Long version, @Param("name") String name,
+              @Param("country") String country, @Param("active") Boolean active);
+
+    /**
+     * Single DELETE by primary key, without loading the entity.
+     *
+     * @return number of deleted rows (0 or 1)
+     */
+    @Modifying
+    @Query("delete from Bank b where b.id = :id")
+    int deleteBankById(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from Bank b where b.id in :ids")
+    int deleteBanksByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Ids among the given ones that exist, row-locked until the end of the transaction so a
+     * following delete removes exactly these rows.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b.id from Bank b where b.id in :ids")
+    List<Long> lockExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,25 @@
+package com.openmatch.bank.repository;
+
+import com.openmatch.bank.dto.BankResponse;
+import com.openmatch.bank.entity.Bank;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Repository queries built with the Criteria API, implemented by {@link BankRepositoryCustomImpl}.
+ */
+public interface BankRepositoryCustom {
+
+    /**
+     * Ids of the banks matching the specification, in id order, at most {@code limit}.
+     * Selects the id column only; entities are not loaded.
+     */
+    List<Long> findIdsMatching(Specification<Bank> specification, int limit);
+
+    /**
+     * Banks matching the specification, in id order, at most {@code limit}, built by a
+     * constructor projection like {@link BankRepository#SELECT_RESPONSE}; entities are not loaded.
+     */
+    List<BankResponse> findResponsesMatching(Specification<Bank> specification, int limit);
+}
@@ -0,0 +1,47 @@
+package com.openmatch.bank.repository;
+
+import com.openmatch.bank.dto.BankResponse;
+import com.openmatch.bank.entity.Bank;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+class BankRepositoryCustomImpl implements BankRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> findIdsMatching(Specification<Bank> specification, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Bank> root = query.from(Bank.class);
+        query.select(root.<Long>get("id")).orderBy(cb.asc(root.get("id")));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<BankResponse> findResponsesMatching(Specification<Bank> specification, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BankResponse> query = cb.createQuery(BankResponse.class);
+        Root<Bank> root = query.from(Bank.class);
+        query.select(cb.construct(BankResponse.class, root.get("id"), root.get("code"), root.get("name"),
+                        root.get("country"), root.get("active"), root.get("creationDate"), root.get("version")))
+                .orderBy(cb.asc(root.get("id")));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
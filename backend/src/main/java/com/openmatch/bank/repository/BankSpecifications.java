@@ -0,0 +1,54 @@
+package com.openmatch.bank.repository;
+
+import com.openmatch.bank.dto.BankSearchCriteria;
+import com.openmatch.bank.entity.Bank;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Specifications for the bank search. Only the filters that are present become predicates,
+ * so each combination produces its own plain query that can use the matching index on
+ * {@link Bank} instead of "(:param is null or ...)" conditions the planner cannot index.
+ */
+public final class BankSpecifications {
+
+    private BankSpecifications() {
+    }
+
+    /**
+     * Filters of the criteria plus the keyset condition {@code id > afterId}.
+     */
+    public static Specification<Bank> matching(BankSearchCriteria criteria, long afterId) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (afterId > 0) {
+                predicates.add(cb.greaterThan(root.<Long>get("id"), afterId));
+            }
+            if (criteria.country() != null) {
+                predicates.add(cb.equal(root.get("country"), criteria.country()));
+            }
+            if (criteria.active() != null) {
+                predicates.add(cb.equal(root.get("active"), criteria.active()));
+            }
+            if (criteria.namePrefix() != null) {
+                // Prefix LIKE stays sargable on the name index
+                predicates.add(cb.like(root.<String>get("name"), escapeLike(criteria.namePrefix()) + "%", '\\'));
+            }
+            if (criteria.createdFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<Instant>get("creationDate"), criteria.createdFrom()));
+            }
+            if (criteria.createdTo() != null) {
+                predicates.add(cb.lessThan(root.<Instant>get("creationDate"), criteria.createdTo()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
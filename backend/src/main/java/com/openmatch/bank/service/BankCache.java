@@ -0,0 +1,131 @@
+package com.openmatch.bank.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.openmatch.bank.dto.BankCacheStats;
+import com.openmatch.bank.dto.BankResponse;
+import com.openmatch.bank.event.BankChange;
+import com.openmatch.bank.event.BankChangeEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded read-through cache of banks, keyed by id and by code.
+ * <p>
+ * Entries are evicted by size and TTL, and invalidated after commit of every write.
+ * The code key only stores the id, and a code hit is accepted only when the cached bank
+ * still has that code, so invalidating by id is enough to keep both keys consistent.
+ * A generation counter protects against a reader putting a value it loaded before a
+ * concurrent write committed. Cached responses are shared and must not be modified.
+ */
+@Component
+public class BankCache implements MeterBinder {
+
+    private final Cache<Long, BankResponse> byId;
+    private final Cache<String, Long> idByCode;
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public BankCache(@Value("${openmatch.bank.cache.max-size:10000}") long maxSize,
+                     @Value("${openmatch.bank.cache.ttl:5m}") Duration ttl) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idByCode = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Current generation. Read it before loading from the database and pass it to {@link #put}.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public BankResponse getById(Long id) {
+        return record(byId.getIfPresent(id));
+    }
+
+    public BankResponse getByCode(String code) {
+        Long id = idByCode.getIfPresent(code);
+        BankResponse cached = id == null ? null : byId.getIfPresent(id);
+        return record(cached != null && cached.getCode().equals(code) ? cached : null);
+    }
+
+    /**
+     * Stores a value loaded from the database. If a write was committed while it was being
+     * loaded, the value may be stale and is dropped again.
+     */
+    public void put(BankResponse response, long loadedAtGeneration) {
+        byId.put(response.getId(), response);
+        idByCode.put(response.getCode(), response.getId());
+        if (generation.get() != loadedAtGeneration) {
+            byId.invalidate(response.getId());
+        }
+    }
+
+    public void invalidate(Long id) {
+        generation.incrementAndGet();
+        byId.invalidate(id);
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        byId.invalidateAll();
+        idByCode.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBankChange(BankChangeEvent event) {
+        for (BankChange change : event.changes()) {
+            if (change.type() != BankChange.Type.CREATED) {
+                invalidate(change.id());
+            }
+        }
+    }
+
+    public BankCacheStats stats() {
+        return new BankCacheStats(
+                hits.sum(),
+                misses.sum(),
+                byId.stats().evictionCount() + idByCode.stats().evictionCount(),
+                byId.estimatedSize()
+        );
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("bank.cache.lookups", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("bank.cache.lookups", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(registry);
+        CaffeineCacheMetrics.monitor(registry, byId, "bank.byId");
+        CaffeineCacheMetrics.monitor(registry, idByCode, "bank.idByCode");
+    }
+
+    private BankResponse record(BankResponse cached) {
+        if (cached != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return cached;
+    }
+}
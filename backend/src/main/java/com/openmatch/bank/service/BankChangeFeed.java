@@ -0,0 +1,278 @@
+package com.openmatch.bank.service;
+
+import com.openmatch.bank.dto.BankChangeNotification;
+import com.openmatch.bank.event.BankChange;
+import com.openmatch.bank.event.BankChangeEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-sent change feed of banks.
+ * <p>
+ * Changes are numbered after commit and kept in a bounded ring buffer, so a client can resume
+ * from the last event id it saw ({@code Last-Event-ID}). Event ids are the sequence qualified
+ * by a random epoch of this instance, so an id issued before a restart or by another replica
+ * is recognised as foreign and answered with a reset. Writers only append to the buffer and
+ * wake subscribers up; each subscriber is drained by one of a fixed number of sender threads
+ * from its own cursor, one drain at a time. A subscriber that falls more than the buffer
+ * capacity behind receives a {@code reset} event (reload the list) and continues from the newest
+ * change instead of holding old entries. A send that does not finish within the send timeout
+ * (a client that stopped reading) closes the stream, so stalled sockets cannot pin the senders;
+ * the client reconnects with its last event id and resumes or gets a reset.
+ */
+@Component
+public class BankChangeFeed implements MeterBinder, DisposableBean {
+
+    /** SSE event name of a change; the data is a {@link BankChangeNotification}. */
+    public static final String CHANGE_EVENT = "bank";
+    /** SSE event name telling the client it missed changes and must reload; the data is the latest event id. */
+    public static final String RESET_EVENT = "reset";
+
+    private static final int DRAIN_BATCH_SIZE = 256;
+    /** Cursor of a subscriber whose resume point is unknown; its first read yields a reset. */
+    private static final long UNKNOWN_SEQUENCE = -1;
+
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
+    private final BankChangeNotification[] ring;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Admitted streams, reserved before the emitter is created so the limit holds under concurrent subscribes
+    private final AtomicInteger open = new AtomicInteger();
+    private final ExecutorService senders;
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "bank-change-feed-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Sequence of the newest change; guarded by this
+    private long latest;
+
+    public BankChangeFeed(@Value("${openmatch.bank.change-feed.capacity:10000}") int capacity,
+                          @Value("${openmatch.bank.change-feed.max-subscribers:1000}") int maxSubscribers,
+                          @Value("${openmatch.bank.change-feed.timeout:30m}") Duration timeout,
+                          @Value("${openmatch.bank.change-feed.senders:4}") int senderThreads,
+                          @Value("${openmatch.bank.change-feed.send-timeout:10s}") Duration sendTimeout) {
+        this.ring = new BankChangeNotification[capacity];
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.senders = Executors.newFixedThreadPool(senderThreads, r -> {
+            Thread thread = new Thread(r, "bank-change-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long checkMillis = Math.max(1, sendTimeout.toMillis() / 2);
+        watchdog.scheduleWithFixedDelay(this::closeStalled, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens a stream that first replays the changes after {@code after} still in the buffer.
+     *
+     * @param lastEventId last event id seen by the client, or null to receive only new changes
+     * @return the emitter, or null when the subscriber limit is reached
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(lastEventId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(String lastEventId, SseEmitter emitter) {
+        if (open.incrementAndGet() > maxSubscribers) {
+            open.decrementAndGet();
+            return null;
+        }
+        Subscriber subscriber = new Subscriber(emitter, resumeSequence(lastEventId));
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(ex -> remove(subscriber));
+        schedule(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBankChange(BankChangeEvent event) {
+        append(event.changes());
+        for (Subscriber subscriber : subscribers) {
+            schedule(subscriber);
+        }
+    }
+
+    public synchronized long latestSequence() {
+        return latest;
+    }
+
+    /**
+     * SSE event id of a sequence: {@code <epoch>-<sequence>}.
+     */
+    String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    /**
+     * Sequence to resume after: the latest one when no id is given, the one encoded in an id
+     * of this epoch, otherwise {@link #UNKNOWN_SEQUENCE}.
+     */
+    long resumeSequence(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return latestSequence();
+        }
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator > 0 && lastEventId.substring(0, separator).equals(epoch)) {
+            try {
+                return Long.parseLong(lastEventId.substring(separator + 1));
+            } catch (NumberFormatException ex) {
+                return UNKNOWN_SEQUENCE;
+            }
+        }
+        return UNKNOWN_SEQUENCE;
+    }
+
+    synchronized void append(List<BankChange> changes) {
+        for (BankChange change : changes) {
+            latest++;
+            ring[(int) (latest % ring.length)] = new BankChangeNotification(latest, change.type(), change.id());
+        }
+    }
+
+    /**
+     * Up to {@code max} changes after the given sequence, or null if some of them were
+     * already overwritten or the sequence is unknown.
+     */
+    synchronized List<BankChangeNotification> readAfter(long after, int max) {
+        if (after < 0 || after < latest - ring.length || after > latest) {
+            return null;
+        }
+        List<BankChangeNotification> result = new ArrayList<>((int) Math.min(max, latest - after));
+        for (long seq = after + 1; seq <= latest && result.size() < max; seq++) {
+            result.add(ring[(int) (seq % ring.length)]);
+        }
+        return result;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("bank.changes.subscribers", subscribers, Set::size)
+                .description("Open change feed streams")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        watchdog.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    /** Number of streams currently admitted. */
+    int openStreams() {
+        return open.get();
+    }
+
+    /**
+     * Closes every stream whose current send has been blocked longer than the send timeout.
+     * The blocked sender fails once the container drops the connection.
+     */
+    void closeStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStartedNanos;
+            if (started != 0 && now - started > sendTimeoutNanos && remove(subscriber)) {
+                subscriber.emitter.complete();
+            }
+        }
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            open.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (true) {
+                List<BankChangeNotification> batch = readAfter(subscriber.cursor, DRAIN_BATCH_SIZE);
+                if (batch == null) {
+                    long newest = latestSequence();
+                    send(subscriber, SseEmitter.event().name(RESET_EVENT).id(eventId(newest))
+                            .data(eventId(newest)));
+                    subscriber.cursor = newest;
+                    continue;
+                }
+                if (batch.isEmpty()) {
+                    subscriber.scheduled.set(false);
+                    // A change appended after the read above may have skipped scheduling us
+                    if (latestSequence() > subscriber.cursor && subscriber.scheduled.compareAndSet(false, true)) {
+                        continue;
+                    }
+                    return;
+                }
+                for (BankChangeNotification change : batch) {
+                    send(subscriber, SseEmitter.event().name(CHANGE_EVENT).id(eventId(change.sequence()))
+                            .data(change, MediaType.APPLICATION_JSON));
+                    subscriber.cursor = change.sequence();
+                }
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // Client went away or the emitter already completed
+            remove(subscriber);
+            subscriber.scheduled.set(false);
+        }
+    }
+
+    private static void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        subscriber.sendStartedNanos = System.nanoTime();
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            subscriber.sendStartedNanos = 0;
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        // Only touched by the thread currently draining this subscriber
+        private long cursor;
+        // Start of the send in progress, 0 when idle; read by the watchdog
+        private volatile long sendStartedNanos;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.openmatch.bank.service;
+
+import com.openmatch.bank.dto.BankResponse;
+import com.openmatch.bank.event.BankChangeEvent;
+import com.openmatch.bank.service.PageCursor.SortKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cheap version stamps for conditional GETs.
+ * <p>
+ * The list stamp is a table-wide counter bumped after commit of every write; single banks
+ * use their row version. Both are prefixed with a random boot id so that tags handed out
+ * before a restart (the H2 database starts empty) never match again. The counter moves after
+ * the data does, so a tag may describe older data than the body it came with, never newer:
+ * the worst case is one extra full response.
+ * <p>
+ * In scale-out mode ({@code openmatch.cluster.enabled}) the shared database keeps ids and row
+ * versions unique across restarts and replicas, so item tags drop the boot id and match on
+ * every node. The list counter is per node and keeps it.
+ */
+@Component
+public class BankChangeTracker {
+
+    private final String bootId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final String itemPrefix;
+    private final AtomicLong listVersion = new AtomicLong();
+
+    public BankChangeTracker(@Value("${openmatch.cluster.enabled:false}") boolean clusterEnabled) {
+        this.itemPrefix = clusterEnabled ? "" : bootId + "-";
+    }
+
+    public long listVersion() {
+        return listVersion.get();
+    }
+
+    /**
+     * Strong ETag of one page of {@code GET /api/banks}. Read it before querying. Built from
+     * the normalised sort key, the effective page size and the re-encoded cursor, so invalid
+     * parameters are rejected (400) before a tag is set and a tag never contains raw input.
+     */
+    public String listEtag(String after, Integer limit, String sort) {
+        SortKey sortKey = SortKey.from(sort);
+        int pageSize = BankService.resolvePageSize(limit);
+        String cursor = after == null ? "" : PageCursor.encode(sortKey, PageCursor.decode(sortKey, after));
+        return "\"" + bootId + "-" + listVersion.get() + "-" + sortKey.ordinal() + "-" + pageSize + "-" + cursor + "\"";
+    }
+
+    /**
+     * Strong ETag of a {@link BankListSnapshot} page, from the snapshot's own sequence rather
+     * than the list counter (the two are bumped by separate listeners), with a suffix per
+     * content coding so the gzip and identity bodies never share a validator.
+     */
+    public String snapshotEtag(long snapshotSequence, boolean gzip) {
+        return "\"" + bootId + "-s" + snapshotSequence + (gzip ? "-gzip" : "") + "\"";
+    }
+
+    /**
+     * Strong ETag of a single bank, derived from its row version.
+     */
+    public String itemEtag(BankResponse response) {
+        return "\"" + itemPrefix + response.getId() + "-" + response.getVersion() + "\"";
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBankChange(BankChangeEvent event) {
+        listVersion.incrementAndGet();
+    }
+}
@@ -0,0 +1,199 @@
+package com.openmatch.bank.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.openmatch.bank.dto.BankBulkResult;
+import com.openmatch.bank.dto.BankIngestStatus;
+import com.openmatch.bank.dto.BankRequest;
+import com.openmatch.bank.dto.BankResponse;
+import com.openmatch.bank.exception.DuplicateBankException;
+import com.openmatch.bank.exception.IngestQueueFullException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind ingest for bursts of single creates (opt-in with {@code openmatch.bank.ingest.enabled}).
+ * <p>
+ * Submissions go into a bounded queue and are answered right away with a ticket. One writer
+ * thread groups them into batches, closing a batch at {@code batch-size} items or
+ * {@code max-delay} after its first item, and writes each batch with
+ * {@link BankService#bulkSave}: one transaction and one commit per batch instead of per bank.
+ * Duplicate codes are reported per item. If a batch fails as a whole (typically a code inserted
+ * concurrently through the synchronous API), its items are retried one transaction each.
+ * When the queue is full, {@link #submit} throws {@link IngestQueueFullException} (503).
+ */
+@Component
+public class BankIngestQueue implements MeterBinder, DisposableBean {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    /**
+     * Handle of one submission: the ticket for the status URL and a future completed once
+     * the bank is written (or rejected).
+     */
+    public record Ticket(String id, CompletableFuture<BankIngestStatus> completion) {}
+
+    private record Entry(Ticket ticket, BankRequest request) {}
+
+    private final BankService bankService;
+    private final boolean enabled;
+    private final int capacity;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final BlockingQueue<Entry> queue;
+    private final Cache<String, BankIngestStatus> statuses;
+    private final ExecutorService writer;
+    private volatile boolean running = true;
+
+    public BankIngestQueue(BankService bankService,
+                           @Value("${openmatch.bank.ingest.enabled:false}") boolean enabled,
+                           @Value("${openmatch.bank.ingest.queue-capacity:10000}") int capacity,
+                           @Value("${openmatch.bank.ingest.batch-size:500}") int batchSize,
+                           @Value("${openmatch.bank.ingest.max-delay:5ms}") Duration maxDelay,
+                           @Value("${openmatch.bank.ingest.status-ttl:10m}") Duration statusTtl) {
+        this.bankService = bankService;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.statuses = Caffeine.newBuilder()
+                .expireAfterWrite(statusTtl)
+                .maximumSize(Math.max(capacity * 10L, 10_000))
+                .build();
+        this.writer = enabled ? Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "bank-ingest-writer");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        if (enabled) {
+            writer.execute(this::runWriter);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues a create. Never blocks.
+     *
+     * @throws IngestQueueFullException if the queue is full or the application is shutting down
+     */
+    public Ticket submit(BankRequest request) {
+        Ticket ticket = new Ticket(UUID.randomUUID().toString(), new CompletableFuture<>());
+        statuses.put(ticket.id(), BankIngestStatus.pending(ticket.id(), request.getCode()));
+        if (!running || !queue.offer(new Entry(ticket, request))) {
+            statuses.invalidate(ticket.id());
+            throw new IngestQueueFullException(capacity);
+        }
+        return ticket;
+    }
+
+    /**
+     * Current state of a ticket, or null if unknown or expired.
+     */
+    public BankIngestStatus status(String ticket) {
+        return statuses.getIfPresent(ticket);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("bank.ingest.queue.size", queue, BlockingQueue::size)
+                .description("Banks waiting for the ingest writer")
+                .register(registry);
+    }
+
+    /**
+     * Stops accepting submissions and lets the writer finish what is already queued.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.shutdown();
+            writer.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private void runWriter() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                Entry first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                queue.drainTo(batch, batchSize - batch.size());
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Entry next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+                write(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes one batch in a single transaction; on failure, item by item.
+     */
+    private void write(List<Entry> batch) {
+        List<BankRequest> requests = batch.stream().map(Entry::request).toList();
+        BankBulkResult result;
+        try {
+            result = bankService.bulkSave(requests, false);
+        } catch (RuntimeException ex) {
+            batch.forEach(this::writeOne);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            BankBulkResult.Item item = result.items().get(i);
+            BankIngestStatus.State state = item.status() == BankBulkResult.Status.CREATED
+                    ? BankIngestStatus.State.CREATED
+                    : BankIngestStatus.State.DUPLICATE;
+            complete(batch.get(i), state, item.id(), null);
+        }
+    }
+
+    private void writeOne(Entry entry) {
+        try {
+            BankResponse created = bankService.create(entry.request());
+            complete(entry, BankIngestStatus.State.CREATED, created.getId(), null);
+        } catch (DuplicateBankException ex) {
+            complete(entry, BankIngestStatus.State.DUPLICATE, null, ex.getMessage());
+        } catch (RuntimeException ex) {
+            complete(entry, BankIngestStatus.State.FAILED, null, ex.getMessage());
+        }
+    }
+
+    private void complete(Entry entry, BankIngestStatus.State state, Long id, String error) {
+        BankIngestStatus status = new BankIngestStatus(entry.ticket().id(), state, entry.request().getCode(), id, error);
+        statuses.put(status.ticket(), status);
+        entry.ticket().completion().complete(status);
+    }
+}
@@ -0,0 +1,145 @@
+package com.openmatch.bank.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openmatch.bank.dto.BankPage;
+import com.openmatch.bank.event.BankChangeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pre-serialised JSON of the default {@code GET /api/banks} page (first page, default size,
+ * sorted by id), optionally also gzipped. Opt-in with {@code openmatch.bank.list-snapshot.enabled}.
+ * <p>
+ * Every committed write bumps a sequence and schedules a rebuild on a single background
+ * thread; rebuilds requested while one is pending are coalesced. Readers only ever read an
+ * {@link AtomicReference}: a snapshot older than the current sequence is not returned, and the
+ * caller falls back to the regular query path instead of waiting. The byte arrays are never
+ * modified after publication, so they are written to the response as they are.
+ */
+@Component
+public class BankListSnapshot implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BankListSnapshot.class);
+
+    /**
+     * Immutable serialised page. {@code gzip} is null when compression is disabled.
+     */
+    public record Page(long sequence, byte[] json, byte[] gzip, String nextCursor) {}
+
+    private final BankService bankService;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final boolean gzip;
+    private final AtomicReference<Page> current = new AtomicReference<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final ExecutorService rebuilder;
+
+    public BankListSnapshot(BankService bankService, ObjectMapper objectMapper,
+                            @Value("${openmatch.bank.list-snapshot.enabled:false}") boolean enabled,
+                            @Value("${openmatch.bank.list-snapshot.gzip:true}") boolean gzip) {
+        this.bankService = bankService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.gzip = gzip;
+        this.rebuilder = enabled ? Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "bank-list-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Current snapshot, or null if disabled, not built yet or out of date. Never blocks.
+     */
+    public Page current() {
+        if (!enabled) {
+            return null;
+        }
+        Page page = current.get();
+        if (page != null && page.sequence() == sequence.get()) {
+            return page;
+        }
+        scheduleRebuild();
+        return null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        scheduleRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBankChange(BankChangeEvent event) {
+        sequence.incrementAndGet();
+        scheduleRebuild();
+    }
+
+    @Override
+    public void destroy() {
+        if (rebuilder != null) {
+            rebuilder.shutdownNow();
+        }
+    }
+
+    private void scheduleRebuild() {
+        if (enabled && rebuildScheduled.compareAndSet(false, true)) {
+            rebuilder.execute(this::rebuild);
+        }
+    }
+
+    /**
+     * Runs on the rebuild thread only. The sequence is read after clearing the flag and before
+     * querying, so a write committed during the build schedules one more rebuild.
+     */
+    void rebuild() {
+        rebuildScheduled.set(false);
+        long seq = sequence.get();
+        try {
+            current.set(build(seq));
+        } catch (RuntimeException ex) {
+            log.warn("Could not rebuild the bank list snapshot; serving from the database", ex);
+        }
+    }
+
+    Page build(long seq) {
+        BankPage page = bankService.findPage(null, null, null);
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(page.items());
+            return new Page(seq, json, gzip ? gzip(json) : null, page.nextCursor());
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+}
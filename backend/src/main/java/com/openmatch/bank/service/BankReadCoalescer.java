@@ -0,0 +1,141 @@
+package com.openmatch.bank.service;
+
+import com.openmatch.bank.event.BankChangeEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for bank reads: concurrent identical reads share one database query and its
+ * mapped result (or its exception) instead of each running their own.
+ * <p>
+ * A flight is keyed by the read and by a write generation that is bumped just before each write
+ * commits. Reads that start while a write is between that bump and the end of its commit are not
+ * shared at all, so a flight can only be joined under the generation whose data it read: readers
+ * that arrive after a commit never join a query that may have read the old data, and only ever
+ * share a result they could have loaded themselves. A reader waits at most the join timeout for
+ * a flight and then runs the query itself. Shared results must not be modified.
+ */
+@Component
+public class BankReadCoalescer implements MeterBinder {
+
+    static final String FIND_BY_ID = "findById";
+    static final String FIND_BY_CODE = "findByCode";
+    static final String FIND_PAGE = "findPage";
+
+    private final long joinTimeoutMillis;
+    private final AtomicLong generation = new AtomicLong();
+    // Writes past their generation bump whose commit has not completed yet
+    private final AtomicInteger committing = new AtomicInteger();
+    private final Map<FlightKey, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> coalesced = Map.of(
+            FIND_BY_ID, new LongAdder(),
+            FIND_BY_CODE, new LongAdder(),
+            FIND_PAGE, new LongAdder());
+
+    public BankReadCoalescer(@Value("${openmatch.bank.read-coalescing.join-timeout:5s}") Duration joinTimeout) {
+        this.joinTimeoutMillis = joinTimeout.toMillis();
+    }
+
+    /**
+     * Runs {@code loader}, or waits for the identical read already in flight and returns its
+     * result. {@code key} must identify the read within the operation.
+     */
+    @SuppressWarnings("unchecked")
+    <V> V execute(String operation, Object key, Supplier<V> loader) {
+        // Generation first: once it is seen, so is the committing count of the write that bumped it
+        FlightKey flightKey = new FlightKey(operation, key, generation.get());
+        if (committing.get() > 0) {
+            return loader.get();
+        }
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = flights.putIfAbsent(flightKey, own);
+        if (inFlight != null) {
+            coalesced.get(operation).increment();
+            return (V) await(inFlight, loader);
+        }
+        try {
+            V value = loader.get();
+            own.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            own.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            flights.remove(flightKey, own);
+        }
+    }
+
+    /**
+     * Starts a new generation before the writing transaction commits; reads stay uncoalesced
+     * until the commit completes. Without a transaction the write is already visible.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onBankChange(BankChangeEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            generation.incrementAndGet();
+            return;
+        }
+        committing.incrementAndGet();
+        generation.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                committing.decrementAndGet();
+            }
+        });
+    }
+
+    long coalesced(String operation) {
+        return coalesced.get(operation).sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        coalesced.forEach((operation, count) -> FunctionCounter.builder("bank.reads.coalesced", count, LongAdder::sum)
+                .description("Reads served by joining an identical query already in flight")
+                .tag("operation", operation)
+                .register(registry));
+    }
+
+    private Object await(CompletableFuture<Object> flight, Supplier<?> loader) {
+        try {
+            return flight.get(joinTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            // The shared query is stuck; do not let it hold this request too
+            return loader.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return loader.get();
+        }
+    }
+
+    private record FlightKey(String operation, Object key, long version) {
+    }
+}
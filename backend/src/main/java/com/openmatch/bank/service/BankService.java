@@ -1,54 +1,391 @@
 package com.openmatch.bank.service;
 
+import com.openmatch.bank.dto.BankBulkDeleteResult;
+import com.openmatch.bank.dto.BankBulkResult;
+import com.openmatch.bank.dto.BankCacheStats;
+import com.openmatch.bank.dto.BankLookupResult;
+import com.openmatch.bank.dto.BankPage;
+import com.openmatch.bank.dto.BankPatchRequest;
 import com.openmatch.bank.dto.BankRequest;
 import com.openmatch.bank.dto.BankResponse;
+import com.openmatch.bank.dto.BankSearchCriteria;
 import com.openmatch.bank.entity.Bank;
+import com.openmatch.bank.event.BankChange;
+import com.openmatch.bank.event.BankChangeEvent;
 import com.openmatch.bank.exception.BankNotFoundException;
+import com.openmatch.bank.exception.BankVersionConflictException;
+import com.openmatch.bank.exception.BulkWriteConflictException;
 import com.openmatch.bank.exception.DuplicateBankException;
+import com.openmatch.bank.exception.InvalidBankRequestException;
 import com.openmatch.bank.repository.BankRepository;
+import com.openmatch.bank.repository.BankSpecifications;
+import com.openmatch.bank.service.PageCursor.SortKey;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Domain service for banking entities. Service pattern.
  * Manages CRUD operations with duplicate validation in POST.
+ * Single-bank reads go through {@link BankCache}; every write publishes a
+ * {@link BankChangeEvent} so read state is invalidated after commit. Concurrent identical
+ * reads that miss the cache share one query through {@link BankReadCoalescer}.
  */
 @Service
+@Timed(value = "bank.service", description = "Bank service operations")
 public class BankService {
 
+    /** Page size used when the client does not send a limit. */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /** Upper bound for the page size, so a single call cannot pull the whole table. */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    /** Items per duplicate lookup and per flush in bulk loads; matches hibernate.jdbc.batch_size. */
+    static final int BULK_CHUNK_SIZE = 500;
+
+    /** Maximum number of items accepted by one bulk call. */
+    public static final int MAX_BULK_SIZE = 100_000;
+
+    /** Maximum number of ids plus codes accepted by one batch lookup. */
+    public static final int MAX_LOOKUP_KEYS = 5_000;
+
+    /** Keys per IN query in batch lookups. */
+    static final int LOOKUP_CHUNK_SIZE = 1_000;
+
+    /** Rows removed per statement and per transaction in bulk deletes. */
+    static final int DELETE_CHUNK_SIZE = 1_000;
+
     private final BankRepository bankRepository;
+    private final BankCache bankCache;
+    private final BankReadCoalescer readCoalescer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
-    public BankService(BankRepository bankRepository) {
+    public BankService(BankRepository bankRepository, BankCache bankCache, BankReadCoalescer readCoalescer,
+                       ApplicationEventPublisher eventPublisher, TransactionTemplate transactionTemplate) {
         this.bankRepository = bankRepository;
+        this.bankCache = bankCache;
+        this.readCoalescer = readCoalescer;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Returns one page of banks using keyset pagination on the primary key (default)
+     * or on the unique code index. Deep pages cost the same as the first one.
+     *
+     * @param after opaque cursor returned with the previous page, or null for the first page
+     * @param limit page size, defaults to {@link #DEFAULT_PAGE_SIZE} and is capped at {@link #MAX_PAGE_SIZE}
+     * @param sort  "id" or "code"
+     */
+    // Not transactional: a reader waiting on a coalesced query must not hold a connection
+    public BankPage findPage(String after, Integer limit, String sort) {
+        SortKey sortKey = SortKey.from(sort);
+        int pageSize = resolvePageSize(limit);
+        return readCoalescer.execute(BankReadCoalescer.FIND_PAGE, new PageKey(after, pageSize, sortKey),
+                () -> loadPage(after, pageSize, sortKey));
     }
 
+    private BankPage loadPage(String after, int pageSize, SortKey sortKey) {
+        // One extra row tells whether there is a next page without a count query
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        List<BankResponse> rows = switch (sortKey) {
+            case ID -> bankRepository.findResponsesAfterId(
+                    after == null ? 0L : PageCursor.decodeId(after), fetchLimit);
+            case CODE -> bankRepository.findResponsesAfterCode(
+                    after == null ? "" : PageCursor.decode(SortKey.CODE, after), fetchLimit);
+        };
+        boolean hasNext = rows.size() > pageSize;
+        List<BankResponse> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            BankResponse last = items.get(items.size() - 1);
+            nextCursor = PageCursor.encode(sortKey,
+                    sortKey == SortKey.ID ? String.valueOf(last.getId()) : last.getCode());
+        }
+        return new BankPage(items, nextCursor);
+    }
+
+    /**
+     * Searches banks by the optional filters of the criteria, one keyset page (by id) at a time.
+     * Only the filters present end up in the query, each combination backed by an index.
+     * Rows are read as projections, like the other list endpoints.
+     *
+     * @param after opaque cursor returned with the previous page, or null for the first page
+     * @param limit page size, defaults to {@link #DEFAULT_PAGE_SIZE} and is capped at {@link #MAX_PAGE_SIZE}
+     */
     @Transactional(readOnly = true)
-    public List<BankResponse> findAll() {
-        return bankRepository.findAll().stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    public BankPage search(BankSearchCriteria criteria, String after, Integer limit) {
+        if (criteria.createdFrom() != null && criteria.createdTo() != null
+                && !criteria.createdFrom().isBefore(criteria.createdTo())) {
+            throw new InvalidBankRequestException("createdFrom must be before createdTo");
+        }
+        int pageSize = resolvePageSize(limit);
+        long afterId = after == null ? 0L : PageCursor.decodeId(after);
+        List<BankResponse> rows = bankRepository.findResponsesMatching(
+                BankSpecifications.matching(criteria, afterId), pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<BankResponse> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext
+                ? PageCursor.encode(SortKey.ID, String.valueOf(items.get(items.size() - 1).getId()))
+                : null;
+        return new BankPage(items, nextCursor);
     }
 
+    /**
+     * Streams every bank, in id order, to the given sink. Rows are read with a forward-only
+     * cursor as projections, which never enter the persistence context, so memory stays flat
+     * regardless of the table size.
+     *
+     * @return number of banks exported
+     */
     @Transactional(readOnly = true)
+    public long exportAll(Consumer<BankResponse> sink) {
+        long count = 0;
+        try (Stream<BankResponse> rows = bankRepository.streamResponses()) {
+            Iterator<BankResponse> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(iterator.next());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Read-through lookup by id. Not transactional, so a cache hit touches neither a
+     * connection nor a transaction.
+     */
     public BankResponse findById(Long id) {
-        Bank bank = bankRepository.findById(id)
-                .orElseThrow(() -> new BankNotFoundException(id));
-        return toResponse(bank);
+        BankResponse cached = bankCache.getById(id);
+        if (cached != null) {
+            return cached;
+        }
+        return readCoalescer.execute(BankReadCoalescer.FIND_BY_ID, id, () -> {
+            long generation = bankCache.generation();
+            BankResponse response = bankRepository.findResponseById(id)
+                    .orElseThrow(() -> new BankNotFoundException(id));
+            bankCache.put(response, generation);
+            return response;
+        });
+    }
+
+    /**
+     * Read-through lookup by the unique code.
+     */
+    public BankResponse findByCode(String code) {
+        BankResponse cached = bankCache.getByCode(code);
+        if (cached != null) {
+            return cached;
+        }
+        return readCoalescer.execute(BankReadCoalescer.FIND_BY_CODE, code, () -> {
+            long generation = bankCache.generation();
+            BankResponse response = bankRepository.findResponseByCode(code)
+                    .orElseThrow(() -> new BankNotFoundException(code));
+            bankCache.put(response, generation);
+            return response;
+        });
+    }
+
+    /**
+     * Resolves many banks by id and/or code. Banks in the cache are answered from it; the
+     * others are loaded with one IN query per {@link #LOOKUP_CHUNK_SIZE} distinct keys and
+     * cached. Not transactional, so each chunk is a single round trip.
+     *
+     * @return one entry per requested key, in request order, marked not found when unknown
+     */
+    public BankLookupResult lookup(List<Long> ids, List<String> codes) {
+        List<Long> requestedIds = ids == null ? List.of() : ids;
+        List<String> requestedCodes = codes == null ? List.of() : codes;
+        if (requestedIds.size() + requestedCodes.size() > MAX_LOOKUP_KEYS) {
+            throw new InvalidBankRequestException("Lookup exceeds " + MAX_LOOKUP_KEYS + " keys");
+        }
+        if (requestedIds.stream().anyMatch(Objects::isNull) || requestedCodes.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidBankRequestException("Lookup keys must not be null");
+        }
+        long generation = bankCache.generation();
+
+        Map<Long, BankResponse> byId = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(requestedIds)) {
+            BankResponse cached = bankCache.getById(id);
+            if (cached != null) {
+                byId.put(id, cached);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        for (int from = 0; from < missingIds.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = missingIds.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, missingIds.size()));
+            for (BankResponse response : bankRepository.findResponsesByIdIn(chunk)) {
+                byId.put(response.getId(), response);
+                bankCache.put(response, generation);
+            }
+        }
+
+        Map<String, BankResponse> byCode = new HashMap<>();
+        List<String> missingCodes = new ArrayList<>();
+        for (String code : new LinkedHashSet<>(requestedCodes)) {
+            BankResponse cached = bankCache.getByCode(code);
+            if (cached != null) {
+                byCode.put(code, cached);
+            } else {
+                missingCodes.add(code);
+            }
+        }
+        for (int from = 0; from < missingCodes.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = missingCodes.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, missingCodes.size()));
+            for (BankResponse response : bankRepository.findResponsesByCodeIn(chunk)) {
+                byCode.put(response.getCode(), response);
+                bankCache.put(response, generation);
+            }
+        }
+
+        List<BankLookupResult.Item> idItems = requestedIds.stream()
+                .map(id -> new BankLookupResult.Item(id, null, byId.containsKey(id), byId.get(id)))
+                .toList();
+        List<BankLookupResult.Item> codeItems = requestedCodes.stream()
+                .map(code -> new BankLookupResult.Item(null, code, byCode.containsKey(code), byCode.get(code)))
+                .toList();
+        return new BankLookupResult(idItems, codeItems);
     }
 
+    public BankCacheStats cacheStats() {
+        return bankCache.stats();
+    }
+
+    /**
+     * Creates a bank with a single INSERT. Duplicates are detected by the unique code index
+     * instead of a prior existence check, which is also correct under concurrent inserts.
+     */
     @Transactional
     public BankResponse create(BankRequest request) {
-        if (bankRepository.existsByCode(request.getCode())) {
-            throw new DuplicateBankException(request.getCode());
-        }
         Bank bank = toEntity(request);
-        bank = bankRepository.save(bank);
+        try {
+            bank = bankRepository.saveAndFlush(bank);
+        } catch (DataIntegrityViolationException ex) {
+            if (isCodeConflict(ex)) {
+                throw new DuplicateBankException(request.getCode());
+            }
+            throw ex;
+        }
+        eventPublisher.publishEvent(BankChangeEvent.of(BankChange.created(bank.getId())));
         return toResponse(bank);
     }
 
+    /**
+     * Creates many banks in one transaction. Codes are checked for duplicates with one
+     * set-based query per chunk and rows are written with JDBC batching, flushing and
+     * clearing the persistence context after each chunk.
+     *
+     * @param upsert when true, items whose code already exists update that bank instead of
+     *               being reported as duplicates
+     * @throws BulkWriteConflictException if a concurrent request inserted one of the codes after
+     *                                    the check; the whole request is rolled back
+     */
+    @Transactional
+    public BankBulkResult bulkSave(List<BankRequest> requests, boolean upsert) {
+        if (requests.size() > MAX_BULK_SIZE) {
+            throw new InvalidBankRequestException("Bulk request exceeds " + MAX_BULK_SIZE + " items");
+        }
+        List<BankBulkResult.Item> items = new ArrayList<>(requests.size());
+        List<BankChange> changes = new ArrayList<>();
+        Set<String> seenCodes = new HashSet<>();
+        int created = 0;
+        int updated = 0;
+        int duplicates = 0;
+        for (int from = 0; from < requests.size(); from += BULK_CHUNK_SIZE) {
+            List<BankRequest> chunk = requests.subList(from, Math.min(from + BULK_CHUNK_SIZE, requests.size()));
+            Set<String> chunkCodes = chunk.stream().map(BankRequest::getCode).collect(Collectors.toSet());
+            Map<String, Bank> existing = bankRepository.findByCodeIn(chunkCodes).stream()
+                    .collect(Collectors.toMap(Bank::getCode, Function.identity()));
+
+            List<Bank> toSave = new ArrayList<>(chunk.size());
+            List<BankBulkResult.Status> statuses = new ArrayList<>(chunk.size());
+            List<Bank> targets = new ArrayList<>(chunk.size());
+            for (BankRequest request : chunk) {
+                Bank bank = existing.get(request.getCode());
+                BankBulkResult.Status status;
+                if (!seenCodes.add(request.getCode())) {
+                    // Repeated inside the same request: the first occurrence wins
+                    status = BankBulkResult.Status.DUPLICATE;
+                } else if (bank == null) {
+                    bank = toEntity(request);
+                    toSave.add(bank);
+                    status = BankBulkResult.Status.CREATED;
+                } else if (upsert) {
+                    applyRequest(bank, request);
+                    toSave.add(bank);
+                    status = BankBulkResult.Status.UPDATED;
+                } else {
+                    status = BankBulkResult.Status.DUPLICATE;
+                }
+                statuses.add(status);
+                targets.add(bank);
+            }
+            try {
+                bankRepository.saveAll(toSave);
+                entityManager.flush();
+            } catch (DataIntegrityViolationException | PersistenceException ex) {
+                // The session is unusable after a failed flush, so the chunk cannot be retried here
+                if (isCodeConflict(ex)) {
+                    throw new BulkWriteConflictException();
+                }
+                throw ex;
+            }
+
+            for (int i = 0; i < chunk.size(); i++) {
+                BankBulkResult.Status status = statuses.get(i);
+                Bank target = targets.get(i);
+                switch (status) {
+                    case CREATED -> {
+                        created++;
+                        changes.add(BankChange.created(target.getId()));
+                    }
+                    case UPDATED -> {
+                        updated++;
+                        changes.add(BankChange.updated(target.getId()));
+                    }
+                    case DUPLICATE -> duplicates++;
+                }
+                items.add(new BankBulkResult.Item(from + i, chunk.get(i).getCode(), status,
+                        target == null ? null : target.getId()));
+            }
+            entityManager.clear();
+        }
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new BankChangeEvent(changes));
+        }
+        return new BankBulkResult(created, updated, duplicates, items);
+    }
+
     @Transactional
     public BankResponse update(Long id, BankRequest request) {
         Bank bank = bankRepository.findById(id)
@@ -57,39 +394,162 @@ public class BankService {
         if (!bank.getCode().equals(request.getCode()) && bankRepository.existsByCodeAndIdNot(request.getCode(), id)) {
             throw new DuplicateBankException(request.getCode());
         }
-        bank.setCode(request.getCode());
-        bank.setName(request.getName());
-        bank.setCountry(request.getCountry());
-        bank.setActive(request.isActive());
-        bank = bankRepository.save(bank);
+        applyRequest(bank, request);
+        try {
+            // Flush so the response carries the incremented version
+            bank = bankRepository.saveAndFlush(bank);
+        } catch (DataIntegrityViolationException ex) {
+            // A concurrent write took the code after the check above
+            if (isCodeConflict(ex)) {
+                throw new DuplicateBankException(request.getCode());
+            }
+            throw ex;
+        }
+        eventPublisher.publishEvent(BankChangeEvent.of(BankChange.updated(id)));
         return toResponse(bank);
     }
 
+    /**
+     * Partial update in a single conditional UPDATE statement guarded by the version column,
+     * with no read-modify-write cycle or row lock. The updated bank is read back by id for the response.
+     *
+     * @throws BankVersionConflictException if the bank changed since {@code request.getVersion()}
+     */
+    @Transactional
+    public BankResponse patch(Long id, BankPatchRequest request) {
+        int updated = bankRepository.patch(id, request.getVersion(), request.getName(),
+                request.getCountry(), request.getActive());
+        if (updated == 0) {
+            // Failure path only: tell a missing bank from a stale version
+            if (!bankRepository.existsById(id)) {
+                throw new BankNotFoundException(id);
+            }
+            throw new BankVersionConflictException(id, request.getVersion());
+        }
+        eventPublisher.publishEvent(BankChangeEvent.of(BankChange.updated(id)));
+        return bankRepository.findResponseById(id)
+                .orElseThrow(() -> new BankNotFoundException(id));
+    }
+
+    /**
+     * Deletes with a single DELETE statement; the affected row count decides the 404.
+     */
     @Transactional
     public void deleteById(Long id) {
-        if (!bankRepository.existsById(id)) {
+        if (bankRepository.deleteBankById(id) == 0) {
             throw new BankNotFoundException(id);
         }
-        bankRepository.deleteById(id);
+        eventPublisher.publishEvent(BankChangeEvent.of(BankChange.deleted(id)));
+    }
+
+    /**
+     * Set-based bulk delete, either by id list or by filter (active flag and/or country).
+     * Works in chunks of {@link #DELETE_CHUNK_SIZE} rows, each one a short transaction that
+     * locks the existing ids and removes them with one DELETE statement, so entities are never
+     * loaded, locks are held briefly and only rows actually deleted are published.
+     */
+    public BankBulkDeleteResult bulkDelete(List<Long> ids, Boolean active, String country) {
+        boolean byIds = ids != null && !ids.isEmpty();
+        boolean byFilter = active != null || country != null;
+        if (byIds && byFilter) {
+            throw new InvalidBankRequestException("Use either ids or a filter, not both");
+        }
+        if (!byIds && !byFilter) {
+            throw new InvalidBankRequestException("Bulk delete requires ids or a filter");
+        }
+        long deleted = 0;
+        if (byIds) {
+            List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+            for (int from = 0; from < distinctIds.size(); from += DELETE_CHUNK_SIZE) {
+                List<Long> chunk = distinctIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, distinctIds.size()));
+                Integer count = transactionTemplate.execute(status -> deleteChunk(chunk));
+                deleted += count == null ? 0 : count;
+            }
+            return new BankBulkDeleteResult(deleted);
+        }
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            List<Long> chunk = new ArrayList<>();
+            Integer count = transactionTemplate.execute(status -> {
+                // Only the filters given become predicates, so the matching index is used
+                chunk.addAll(bankRepository.findIdsMatching(
+                        BankSpecifications.matching(new BankSearchCriteria(country, active, null, null, null), from),
+                        DELETE_CHUNK_SIZE));
+                return chunk.isEmpty() ? 0 : deleteChunk(chunk);
+            });
+            deleted += count == null ? 0 : count;
+            if (chunk.size() < DELETE_CHUNK_SIZE) {
+                return new BankBulkDeleteResult(deleted);
+            }
+            afterId = chunk.get(chunk.size() - 1);
+        }
+    }
+
+    private int deleteChunk(List<Long> ids) {
+        List<Long> existing = bankRepository.lockExistingIds(ids);
+        if (existing.isEmpty()) {
+            return 0;
+        }
+        int count = bankRepository.deleteBanksByIdIn(existing);
+        eventPublisher.publishEvent(new BankChangeEvent(existing.stream().map(BankChange::deleted).toList()));
+        return count;
+    }
+
+    /**
+     * Whether the failure is a violation of the unique code index, by the constraint name
+     * Hibernate extracts from the driver error. H2 qualifies it with the schema and may append
+     * the name of the backing index ({@code PUBLIC.UX_BANK_CODE_INDEX_1}).
+     */
+    static boolean isCodeConflict(Exception ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String name = violation.getConstraintName();
+                if (name == null) {
+                    return false;
+                }
+                name = name.substring(name.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+                return name.equals(Bank.CODE_INDEX) || name.startsWith(Bank.CODE_INDEX + "_");
+            }
+        }
+        return false;
     }
 
-    private Bank toEntity(BankRequest request) {
+    static int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new InvalidBankRequestException("Limit must be greater than zero");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    static Bank toEntity(BankRequest request) {
         Bank bank = new Bank();
+        applyRequest(bank, request);
+        return bank;
+    }
+
+    private static void applyRequest(Bank bank, BankRequest request) {
         bank.setCode(request.getCode());
         bank.setName(request.getName());
         bank.setCountry(request.getCountry());
         bank.setActive(request.isActive());
-        return bank;
     }
 
-    private BankResponse toResponse(Bank bank) {
+    static BankResponse toResponse(Bank bank) {
         return new BankResponse(
                 bank.getId(),
                 bank.getCode(),
                 bank.getName(),
                 bank.getCountry(),
                 bank.isActive(),
-                bank.getCreationDate()
+                bank.getCreationDate(),
+                bank.getVersion()
         );
     }
+
+    private record PageKey(String after, int limit, SortKey sort) {
+    }
 }
@@ -0,0 +1,62 @@
+package com.openmatch.bank.service;
+
+import com.openmatch.bank.exception.InvalidBankRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * Opaque keyset cursor. Encodes the sort key and the last value returned
+ * so the next page can continue with a "greater than" condition on an index.
+ */
+final class PageCursor {
+
+    enum SortKey {
+        ID, CODE;
+
+        static SortKey from(String value) {
+            if (value == null || value.isBlank()) {
+                return ID;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new InvalidBankRequestException("Unknown sort key: " + value);
+            }
+        }
+    }
+
+    private PageCursor() {
+    }
+
+    static String encode(SortKey key, String lastValue) {
+        String raw = key.name() + ":" + lastValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the last value stored in the cursor, validating that it was issued for the same sort key.
+     */
+    static String decode(SortKey key, String cursor) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidBankRequestException("Invalid cursor");
+        }
+        int separator = raw.indexOf(':');
+        if (separator < 0 || !raw.substring(0, separator).equals(key.name())) {
+            throw new InvalidBankRequestException("Cursor does not match sort key: " + key.name().toLowerCase(Locale.ROOT));
+        }
+        return raw.substring(separator + 1);
+    }
+
+    static long decodeId(String cursor) {
+        try {
+            return Long.parseLong(decode(SortKey.ID, cursor));
+        } catch (NumberFormatException ex) {
+            throw new InvalidBankRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.openmatch.config;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit adjusted by AIMD from request latency, as in TCP congestion control.
+ * <p>
+ * While requests finish under the latency threshold and at least half of the limit is in use,
+ * the limit grows by about one per limit's worth of requests. When a request takes longer,
+ * the limit is cut by {@link #BACKOFF_RATIO}, at most once per limit's worth of requests so that
+ * one burst of slow responses counts as a single congestion signal. The limit stays within
+ * {@code [minLimit, maxLimit]}.
+ */
+public final class AdaptiveConcurrencyLimit {
+
+    static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+    // Guarded by this
+    private double exactLimit;
+    private int samplesSinceDecrease;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Invalid limit bounds [" + minLimit + ", " + maxLimit + "]");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.exactLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) exactLimit;
+        // The first slow response after startup backs off immediately
+        this.samplesSinceDecrease = limit;
+    }
+
+    /**
+     * @return true if the request may proceed; it must then call {@link #release(long)}
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        onSample(latencyNanos, inFlightBefore);
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long latencyNanos, int inFlightBefore) {
+        samplesSinceDecrease++;
+        if (latencyNanos > latencyThresholdNanos) {
+            if (samplesSinceDecrease >= exactLimit) {
+                exactLimit = Math.max(minLimit, exactLimit * BACKOFF_RATIO);
+                samplesSinceDecrease = 0;
+            }
+        } else if (inFlightBefore * 2 >= exactLimit) {
+            exactLimit = Math.min(maxLimit, exactLimit + 1.0 / exactLimit);
+        }
+        limit = (int) exactLimit;
+    }
+}
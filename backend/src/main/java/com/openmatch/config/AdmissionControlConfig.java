@@ -0,0 +1,47 @@
+package com.openmatch.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Admission control (opt-in, {@code openmatch.admission.enabled}): separate adaptive
+ * concurrency limits for API reads and writes, see {@link AdmissionControlFilter}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "openmatch.admission.enabled", havingValue = "true")
+public class AdmissionControlConfig {
+
+    /**
+     * Runs right after the security chain, so rejections still carry CORS headers.
+     */
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+            ObjectMapper objectMapper, MeterRegistry registry,
+            @Value("${openmatch.admission.read.initial-limit:100}") int readInitial,
+            @Value("${openmatch.admission.read.min-limit:10}") int readMin,
+            @Value("${openmatch.admission.read.max-limit:200}") int readMax,
+            @Value("${openmatch.admission.read.latency-threshold:100ms}") Duration readThreshold,
+            @Value("${openmatch.admission.write.initial-limit:40}") int writeInitial,
+            @Value("${openmatch.admission.write.min-limit:4}") int writeMin,
+            @Value("${openmatch.admission.write.max-limit:100}") int writeMax,
+            @Value("${openmatch.admission.write.latency-threshold:250ms}") Duration writeThreshold,
+            @Value("${openmatch.admission.retry-after:1s}") Duration retryAfter,
+            @Value("${openmatch.internal-query.mode:in-process}") String internalQueryMode) {
+        AdmissionControlFilter filter = new AdmissionControlFilter(
+                new AdaptiveConcurrencyLimit(readInitial, readMin, readMax, readThreshold),
+                new AdaptiveConcurrencyLimit(writeInitial, writeMin, writeMax, writeThreshold),
+                "http".equalsIgnoreCase(internalQueryMode), retryAfter, objectMapper, registry);
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,108 @@
+package com.openmatch.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openmatch.bank.exception.GlobalExceptionHandler.ErrorBody;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Admission control for the bank API: reads (GET, HEAD and the batch lookup) and writes each have their own
+ * {@link AdaptiveConcurrencyLimit}. A request over its limit is answered at once with
+ * 503 and {@code Retry-After} instead of waiting in the Tomcat queue.
+ * <p>
+ * Long-lived streams (export, change feed) are not limited, since their duration says nothing
+ * about load. In {@code http} internal-query mode the outer internal query is not limited
+ * either: its loopback GET is, so each internal query is counted once, on the inner request.
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    static final Set<String> UNLIMITED_PATHS = Set.of("/api/banks/export", "/api/banks/changes");
+    static final String INTERNAL_QUERY_PATH = "/api/banks/internal-query";
+    static final String LOOKUP_PATH = "/api/banks/lookup";
+
+    private final AdaptiveConcurrencyLimit readLimit;
+    private final AdaptiveConcurrencyLimit writeLimit;
+    private final boolean loopbackInternalQuery;
+    private final String retryAfterSeconds;
+    private final ObjectMapper objectMapper;
+    private final Counter readRejected;
+    private final Counter writeRejected;
+
+    public AdmissionControlFilter(AdaptiveConcurrencyLimit readLimit, AdaptiveConcurrencyLimit writeLimit,
+                                  boolean loopbackInternalQuery, Duration retryAfter,
+                                  ObjectMapper objectMapper, MeterRegistry registry) {
+        this.readLimit = readLimit;
+        this.writeLimit = writeLimit;
+        this.loopbackInternalQuery = loopbackInternalQuery;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+        this.objectMapper = objectMapper;
+        this.readRejected = register(registry, "read", readLimit);
+        this.writeRejected = register(registry, "write", writeLimit);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !path.startsWith("/api/")
+                || "OPTIONS".equals(request.getMethod())
+                || UNLIMITED_PATHS.contains(path)
+                || (loopbackInternalQuery && INTERNAL_QUERY_PATH.equals(path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean read = "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod())
+                || LOOKUP_PATH.equals(request.getRequestURI());
+        AdaptiveConcurrencyLimit limit = read ? readLimit : writeLimit;
+        if (!limit.tryAcquire()) {
+            (read ? readRejected : writeRejected).increment();
+            reject(response);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limit.release(System.nanoTime() - start);
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorBody(status.value(), "Server overloaded, retry later", Instant.now()));
+    }
+
+    private static Counter register(MeterRegistry registry, String type, AdaptiveConcurrencyLimit limit) {
+        Gauge.builder("bank.admission.in.flight", limit, AdaptiveConcurrencyLimit::inFlight)
+                .description("API requests currently admitted")
+                .tag("type", type)
+                .register(registry);
+        Gauge.builder("bank.admission.limit", limit, AdaptiveConcurrencyLimit::limit)
+                .description("Current adaptive concurrency limit")
+                .tag("type", type)
+                .register(registry);
+        return Counter.builder("bank.admission.rejected")
+                .description("API requests rejected with 503 by admission control")
+                .tag("type", type)
+                .register(registry);
+    }
+}
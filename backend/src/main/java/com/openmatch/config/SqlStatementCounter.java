@@ -0,0 +1,71 @@
+package com.openmatch.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+
+/**
+ * Hibernate statement inspector that counts the SQL statements Hibernate prepares, by type, and
+ * per thread. It runs once per prepared statement, not per execution: a JDBC batch of 500
+ * inserts counts as one. Plain JDBC (persistence restore, cluster log) is not seen, and
+ * statements prepared on background threads (coalescer, ingest, persistence) are never charged
+ * to a request. The inspector never changes the SQL.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> CURRENT = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final Counter selects;
+    private final Counter inserts;
+    private final Counter updates;
+    private final Counter deletes;
+    private final Counter others;
+
+    public SqlStatementCounter(MeterRegistry registry) {
+        this.selects = counter(registry, "select");
+        this.inserts = counter(registry, "insert");
+        this.updates = counter(registry, "update");
+        this.deletes = counter(registry, "delete");
+        this.others = counter(registry, "other");
+    }
+
+    @Override
+    public String inspect(String sql) {
+        CURRENT.get()[0]++;
+        counterFor(sql).increment();
+        return sql;
+    }
+
+    /**
+     * Resets the statement count of the current thread and returns the previous value.
+     */
+    public static long reset() {
+        long[] current = CURRENT.get();
+        long count = current[0];
+        current[0] = 0;
+        return count;
+    }
+
+    private Counter counterFor(String sql) {
+        String start = sql.stripLeading();
+        if (start.length() < 6) {
+            return others;
+        }
+        return switch (start.substring(0, 6).toLowerCase(Locale.ROOT)) {
+            case "select" -> selects;
+            case "insert" -> inserts;
+            case "update" -> updates;
+            case "delete" -> deletes;
+            default -> others;
+        };
+    }
+
+    private static Counter counter(MeterRegistry registry, String type) {
+        return Counter.builder("bank.sql.prepared")
+                .description("SQL statements prepared by Hibernate (a JDBC batch counts once)")
+                .tag("type", type)
+                .register(registry);
+    }
+}
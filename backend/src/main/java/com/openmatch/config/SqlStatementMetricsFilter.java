@@ -0,0 +1,41 @@
+package com.openmatch.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements Hibernate prepared on the request thread of each API request.
+ */
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    private final DistributionSummary statementsPerRequest;
+
+    public SqlStatementMetricsFilter(MeterRegistry registry) {
+        this.statementsPerRequest = DistributionSummary.builder("bank.sql.prepared.per.request")
+                .description("SQL statements prepared by Hibernate on the request thread of one API request")
+                .register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementCounter.reset();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            statementsPerRequest.record(SqlStatementCounter.reset());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.openmatch.config;
+
+import com.openmatch.bank.cluster.ClusterChangeLog;
+import com.openmatch.bank.controller.BankController;
+import com.openmatch.bank.controller.InternalQueryController;
+import com.openmatch.bank.persistence.BankPersistence;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Startup tuning for {@code spring.main.lazy-initialization} (fast-startup profile).
+ */
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Beans that serve API requests stay eager under lazy initialisation, together with
+     * everything they depend on (service, repository, cache, JPA). The first request then costs
+     * the same as any other; beans not used for serving are still created on first use.
+     * <p>
+     * Beans that do their work at startup stay eager too: nothing else requests them, so under
+     * lazy initialisation {@link BankPersistence} would never restore and {@link ClusterChangeLog}
+     * would never poll.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter servingBeansExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                BankController.class, InternalQueryController.class, EntityManagerFactory.class,
+                BankPersistence.class, ClusterChangeLog.class);
+    }
+}
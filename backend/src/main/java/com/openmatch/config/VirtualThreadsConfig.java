@@ -0,0 +1,32 @@
+package com.openmatch.config;
+
+import org.apache.coyote.AbstractProtocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tomcat connection limits of the virtual-threads profile. Only applied when requests actually
+ * run on virtual threads (Java 21+): with the platform-thread pool the extra sockets would just
+ * queue behind the same workers, so Tomcat's defaults are kept.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    @Bean
+    WebServerFactoryCustomizer<TomcatServletWebServerFactory> virtualThreadConnectionLimits(
+            @Value("${openmatch.virtual-threads.max-connections:20000}") int maxConnections,
+            @Value("${openmatch.virtual-threads.accept-count:1000}") int acceptCount) {
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            if (connector.getProtocolHandler() instanceof AbstractProtocol<?> protocol) {
+                protocol.setMaxConnections(maxConnections);
+                protocol.setAcceptCount(acceptCount);
+            }
+        });
+    }
+}
@@ -0,0 +1,32 @@
+-- Schema of the fast-startup profile, which skips Hibernate DDL generation.
+-- Must match the entities: StartupProfileSchemaTest validates it against the mappings.
+
+create sequence bank_seq start with 1 increment by 50;
+
+create table bank (
+    id bigint not null,
+    code varchar(20) not null,
+    name varchar(200) not null,
+    country varchar(100),
+    active boolean not null,
+    creation_date timestamp(6) with time zone not null,
+    version bigint not null,
+    primary key (id)
+);
+
+create unique index ux_bank_code on bank (code);
+create index ix_bank_country_active on bank (country, active, id);
+create index ix_bank_active on bank (active, id);
+create index ix_bank_name on bank (name);
+create index ix_bank_creation_date on bank (creation_date);
+
+create table bank_change_log (
+    id bigint generated by default as identity,
+    bank_id bigint not null,
+    type varchar(10) not null check (type in ('CREATED', 'UPDATED', 'DELETED')),
+    node_id varchar(64) not null,
+    changed_at timestamp(6) with time zone not null,
+    primary key (id)
+);
+
+create index ix_bank_change_log_changed_at on bank_change_log (changed_at);
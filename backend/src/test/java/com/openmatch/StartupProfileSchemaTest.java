@@ -0,0 +1,23 @@
+package com.openmatch;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * The fast-startup profile creates the schema from {@code db/schema.sql} instead of the
+ * entity mappings; Hibernate validation fails the context if the two drift apart.
+ */
+@SpringBootTest(properties = {
+		"spring.jpa.hibernate.ddl-auto=validate",
+		// Own database: the default test context keeps the shared in-memory one open
+		"spring.datasource.url=jdbc:h2:mem:startup-schema"
+})
+@ActiveProfiles("fast-startup")
+class StartupProfileSchemaTest {
+
+	@Test
+	void schemaMatchesEntities() {
+	}
+
+}
@@ -0,0 +1,52 @@
+package com.openmatch.bank.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangeLogCursorTest {
+
+    private final ChangeLogCursor cursor = new ChangeLogCursor(10, Duration.ofSeconds(1));
+
+    @Test
+    void accept_advancesAndIgnoresRowsAlreadySeen() {
+        assertThat(cursor.accept(11, 0)).isTrue();
+        assertThat(cursor.accept(12, 0)).isTrue();
+        assertThat(cursor.accept(12, 0)).isFalse();
+        assertThat(cursor.accept(5, 0)).isFalse();
+
+        assertThat(cursor.lastSeen()).isEqualTo(12);
+        assertThat(cursor.gaps()).isEmpty();
+    }
+
+    @Test
+    void accept_remembersSkippedIdsUntilTheyCommit() {
+        cursor.accept(14, 0);
+
+        assertThat(cursor.gaps()).containsExactly(11L, 12L, 13L);
+
+        assertThat(cursor.accept(12, 0)).isTrue();
+        assertThat(cursor.accept(12, 0)).isFalse();
+        assertThat(cursor.gaps()).containsExactly(11L, 13L);
+    }
+
+    @Test
+    void expire_dropsGapsAfterGracePeriod() {
+        cursor.accept(12, 0);
+        cursor.accept(14, Duration.ofMillis(900).toNanos());
+
+        cursor.expire(Duration.ofMillis(1500).toNanos());
+
+        assertThat(cursor.gaps()).containsExactly(13L);
+        assertThat(cursor.accept(11, 0)).isFalse();
+    }
+
+    @Test
+    void accept_boundsNumberOfGaps() {
+        cursor.accept(10 + ChangeLogCursor.MAX_GAPS * 2L, 0);
+
+        assertThat(cursor.gaps()).hasSize(ChangeLogCursor.MAX_GAPS);
+    }
+}
@@ -0,0 +1,19 @@
+package com.openmatch.bank.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BankControllerTest {
+
+    @Test
+    void acceptsGzip_honoursQValues() {
+        assertThat(BankController.acceptsGzip(new String[]{"gzip, deflate, br"})).isTrue();
+        assertThat(BankController.acceptsGzip(new String[]{"br", "GZIP;q=0.5"})).isTrue();
+        assertThat(BankController.acceptsGzip(new String[]{"*"})).isTrue();
+        assertThat(BankController.acceptsGzip(new String[]{"gzip;q=0"})).isFalse();
+        assertThat(BankController.acceptsGzip(new String[]{"gzip; q=0.0, *"})).isFalse();
+        assertThat(BankController.acceptsGzip(new String[]{"identity"})).isFalse();
+        assertThat(BankController.acceptsGzip(null)).isFalse();
+    }
+}
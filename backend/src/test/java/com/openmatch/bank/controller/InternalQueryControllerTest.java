@@ -0,0 +1,72 @@
+package com.openmatch.bank.controller;
+
+import com.openmatch.bank.dto.BankPage;
+import com.openmatch.bank.dto.BankResponse;
+import com.openmatch.bank.service.BankService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class InternalQueryControllerTest {
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final BankService bankService = mock(BankService.class);
+    private final MockEnvironment environment = new MockEnvironment().withProperty("local.server.port", "8181");
+
+    @Test
+    void inProcessMode_readsThePageFromTheService() {
+        BankResponse bank = bank(7L);
+        when(bankService.findPage("c1", null, null)).thenReturn(new BankPage(List.of(bank), "c2"));
+
+        ResponseEntity<List<BankResponse>> response = controller("in-process").internalQuery("c1");
+
+        assertThat(response.getBody()).containsExactly(bank);
+        assertThat(response.getHeaders().getFirst(BankController.NEXT_CURSOR_HEADER)).isEqualTo("c2");
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void httpMode_readsThePageThroughLoopbackCall() {
+        BankResponse bank = bank(7L);
+        when(restTemplate.exchange(eq("http://localhost:8181/api/banks?after=c1"), eq(HttpMethod.GET), isNull(),
+                ArgumentMatchers.<ParameterizedTypeReference<List<BankResponse>>>any()))
+                .thenReturn(ResponseEntity.ok().header(BankController.NEXT_CURSOR_HEADER, "c2").body(List.of(bank)));
+
+        ResponseEntity<List<BankResponse>> response = controller("HTTP").internalQuery("c1");
+
+        assertThat(response.getBody()).containsExactly(bank);
+        assertThat(response.getHeaders().getFirst(BankController.NEXT_CURSOR_HEADER)).isEqualTo("c2");
+        verifyNoInteractions(bankService);
+    }
+
+    @Test
+    void unknownModeFailsStartup() {
+        assertThatThrownBy(() -> controller("htpp"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("htpp");
+    }
+
+    private InternalQueryController controller(String mode) {
+        return new InternalQueryController(restTemplate, environment, bankService, mode);
+    }
+
+    private static BankResponse bank(Long id) {
+        BankResponse bank = new BankResponse();
+        bank.setId(id);
+        return bank;
+    }
+}
@@ -0,0 +1,35 @@
+package com.openmatch.bank.dto;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BankPatchRequestTest {
+
+    private final ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+    private final Validator validator = factory.getValidator();
+
+    @AfterEach
+    void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    void name_mustNotBeBlankWhenPresent() {
+        assertThat(validator.validate(request("   "))).extracting(v -> v.getPropertyPath().toString())
+                .containsExactly("name");
+        assertThat(validator.validate(request(" Bank\n"))).isEmpty();
+        assertThat(validator.validate(request(null))).isEmpty();
+    }
+
+    private static BankPatchRequest request(String name) {
+        BankPatchRequest request = new BankPatchRequest();
+        request.setVersion(0L);
+        request.setName(name);
+        return request;
+    }
+}
@@ -0,0 +1,58 @@
+package com.openmatch.bank.persistence;
+
+import com.openmatch.bank.dto.BankResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BankChangeLogTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replay_returnsEntriesInOrder() throws IOException {
+        try (BankChangeLog log = BankChangeLog.open(dir, 3L)) {
+            log.append(List.of(bank(1L, 0L), bank(2L, 0L)), List.of());
+            log.append(List.of(bank(1L, 1L)), List.of(2L));
+        }
+        List<String> entries = new ArrayList<>();
+
+        BankChangeLog.replay(BankChangeLog.segmentPath(dir, 3L),
+                bank -> entries.add("U" + bank.getId() + "v" + bank.getVersion()),
+                id -> entries.add("D" + id));
+
+        assertThat(entries).containsExactly("U1v0", "U2v0", "U1v1", "D2");
+        assertThat(BankChangeLog.segments(dir)).containsExactly(3L);
+    }
+
+    @Test
+    void replay_stopsAtTornTail() throws IOException {
+        try (BankChangeLog log = BankChangeLog.open(dir, 0L)) {
+            log.append(List.of(bank(1L, 0L)), List.of());
+            log.append(List.of(bank(2L, 0L)), List.of());
+        }
+        Path segment = BankChangeLog.segmentPath(dir, 0L);
+        byte[] bytes = Files.readAllBytes(segment);
+        Files.write(segment, Arrays.copyOf(bytes, bytes.length - 5), StandardOpenOption.TRUNCATE_EXISTING);
+        List<Long> ids = new ArrayList<>();
+
+        BankChangeLog.replay(segment, bank -> ids.add(bank.getId()), ids::add);
+
+        assertThat(ids).containsExactly(1L);
+    }
+
+    private static BankResponse bank(Long id, Long version) {
+        return new BankResponse(id, "B" + id, "Bank " + id, "Spain", true, Instant.ofEpochSecond(1_700_000_000L), version);
+    }
+}
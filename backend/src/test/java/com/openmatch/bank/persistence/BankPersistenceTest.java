@@ -0,0 +1,115 @@
+package com.openmatch.bank.persistence;
+
+import com.openmatch.bank.dto.BankResponse;
+import com.openmatch.bank.repository.BankRepository;
+import com.openmatch.bank.service.BankService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BankPersistenceTest {
+
+    @TempDir
+    Path dir;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final List<BankResponse> inserted = new ArrayList<>();
+    private BankPersistence persistence;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        doAnswer(inv -> {
+            inv.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any())).thenAnswer(inv -> {
+            inserted.addAll(inv.<Collection<BankResponse>>getArgument(1));
+            return new int[0][];
+        });
+        persistence = new BankPersistence(mock(BankService.class), mock(BankRepository.class), jdbcTemplate,
+                transactionTemplate, false, dir, Duration.ofMinutes(10), false);
+    }
+
+    @Test
+    void constructor_refusesClusterMode() {
+        assertThatThrownBy(() -> new BankPersistence(mock(BankService.class), mock(BankRepository.class),
+                mock(JdbcTemplate.class), mock(TransactionTemplate.class), true, dir, Duration.ofMinutes(10), true))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void restore_replaysLogInOrderOverSnapshot() throws IOException {
+        BankSnapshotFile.write(dir, 1L, sink -> List.of(bank(1L, "one", 0L), bank(2L, "two", 0L), bank(3L, "three", 4L))
+                .forEach(sink));
+        try (BankChangeLog log = BankChangeLog.open(dir, 0L)) {
+            // Covered by the snapshot: ignored
+            log.append(List.of(), List.of(1L));
+        }
+        try (BankChangeLog log = BankChangeLog.open(dir, 1L)) {
+            log.append(List.of(bank(2L, "two updated", 1L)), List.of(3L));
+            log.append(List.of(bank(60L, "sixty", 0L)), List.of(70L));
+        }
+        try (BankChangeLog log = BankChangeLog.open(dir, 2L)) {
+            // Id 3 handed out again after its delete: the later upsert clears the delete
+            log.append(List.of(bank(3L, "three again", 0L)), List.of());
+        }
+
+        long nextSegment = persistence.restore();
+
+        assertThat(inserted).extracting(BankResponse::getId).containsExactlyInAnyOrder(1L, 2L, 3L, 60L);
+        assertThat(inserted).extracting(BankResponse::getName)
+                .containsExactlyInAnyOrder("one", "two updated", "three again", "sixty");
+        assertThat(nextSegment).isEqualTo(3L);
+    }
+
+    @Test
+    void restore_movesSequencePastDeletedIds() throws IOException {
+        BankSnapshotFile.write(dir, 0L, sink -> sink.accept(bank(5L, "five", 0L)));
+        try (BankChangeLog log = BankChangeLog.open(dir, 0L)) {
+            log.append(List.of(bank(40L, "forty", 0L)), List.of(90L));
+        }
+
+        persistence.restore();
+
+        // 90 + allocation size + 1: the pooled optimizer hands out 92..141 first, never a logged id
+        verify(jdbcTemplate).execute("alter sequence bank_seq restart with 141");
+    }
+
+    @Test
+    void restore_withNothingOnDiskLeavesSequence() throws IOException {
+        long nextSegment = persistence.restore();
+
+        assertThat(inserted).isEmpty();
+        assertThat(nextSegment).isZero();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    private static BankResponse bank(Long id, String name, Long version) {
+        return new BankResponse(id, "B" + id, name, "Spain", true, Instant.ofEpochSecond(1_700_000_000L), version);
+    }
+}
@@ -0,0 +1,70 @@
+package com.openmatch.bank.persistence;
+
+import com.openmatch.bank.dto.BankResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BankSnapshotFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void write_thenReadRestoresEveryBankAndSegment() throws IOException {
+        List<BankResponse> banks = new ArrayList<>();
+        for (long i = 1; i <= 20_000; i++) {
+            banks.add(new BankResponse(i, "B" + i, "Banco Español " + i, i % 2 == 0 ? null : "Spain", i % 3 != 0,
+                    Instant.ofEpochSecond(1_700_000_000L + i, 123_456_789), i % 5));
+        }
+
+        long written = BankSnapshotFile.write(dir, 7L, sink -> banks.forEach(sink));
+        List<BankResponse> read = new ArrayList<>();
+        long firstSegment = BankSnapshotFile.read(dir.resolve(BankSnapshotFile.FILE_NAME), read::add);
+
+        assertThat(written).isEqualTo(banks.size());
+        assertThat(firstSegment).isEqualTo(7L);
+        assertThat(BankSnapshotFile.readFirstSegment(dir.resolve(BankSnapshotFile.FILE_NAME))).isEqualTo(7L);
+        assertThat(read).usingRecursiveFieldByFieldElementComparator().isEqualTo(banks);
+        assertThat(dir.resolve(BankSnapshotFile.FILE_NAME + ".tmp")).doesNotExist();
+    }
+
+    @Test
+    void read_inSmallWindowsRestoresEveryBank() throws IOException {
+        List<BankResponse> banks = new ArrayList<>();
+        for (long i = 1; i <= 5_000; i++) {
+            banks.add(new BankResponse(i, "B" + i, "Bank " + "x".repeat((int) (i % 150)), "Spain", true,
+                    Instant.ofEpochSecond(1_700_000_000L + i), 0L));
+        }
+        BankSnapshotFile.write(dir, 3L, sink -> banks.forEach(sink));
+
+        List<BankResponse> read = new ArrayList<>();
+        long firstSegment = BankSnapshotFile.read(dir.resolve(BankSnapshotFile.FILE_NAME), read::add, 4_096);
+
+        assertThat(firstSegment).isEqualTo(3L);
+        assertThat(read).usingRecursiveFieldByFieldElementComparator().isEqualTo(banks);
+    }
+
+    @Test
+    void read_rejectsCorruptedFile() throws IOException {
+        BankSnapshotFile.write(dir, 0L, sink -> sink.accept(
+                new BankResponse(1L, "B001", "Bank", "Spain", true, Instant.now(), 0L)));
+        Path file = dir.resolve(BankSnapshotFile.FILE_NAME);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[20] ^= 0x7F;
+        Files.write(file, bytes, StandardOpenOption.TRUNCATE_EXISTING);
+
+        assertThatThrownBy(() -> BankSnapshotFile.read(file, bank -> { }))
+                .isInstanceOf(IOException.class);
+    }
+}
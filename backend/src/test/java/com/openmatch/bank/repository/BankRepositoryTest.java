@@ -0,0 +1,83 @@
+package com.openmatch.bank.repository;
+
+import com.openmatch.bank.dto.BankResponse;
+import com.openmatch.bank.dto.BankSearchCriteria;
+import com.openmatch.bank.entity.Bank;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class BankRepositoryTest {
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Bank bank;
+
+    @BeforeEach
+    void setUp() {
+        bank = new Bank();
+        bank.setCode("P001");
+        bank.setName("Patch Bank");
+        bank.setCountry("Spain");
+        bank.setActive(true);
+        bank = bankRepository.saveAndFlush(bank);
+    }
+
+    @Test
+    void patch_appliesNonNullFieldsAndIncrementsVersion() {
+        long version = bank.getVersion();
+
+        int updated = bankRepository.patch(bank.getId(), version, "Renamed", null, null);
+
+        Bank patched = bankRepository.findById(bank.getId()).orElseThrow();
+        assertThat(updated).isEqualTo(1);
+        assertThat(patched.getName()).isEqualTo("Renamed");
+        assertThat(patched.getCountry()).isEqualTo("Spain");
+        assertThat(patched.isActive()).isTrue();
+        assertThat(patched.getVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    void patch_updatesNothingWhenVersionIsStale() {
+        long version = bank.getVersion();
+
+        int updated = bankRepository.patch(bank.getId(), version + 1, "Renamed", "France", false);
+
+        Bank unchanged = bankRepository.findById(bank.getId()).orElseThrow();
+        assertThat(updated).isZero();
+        assertThat(unchanged.getName()).isEqualTo("Patch Bank");
+        assertThat(unchanged.getCountry()).isEqualTo("Spain");
+        assertThat(unchanged.isActive()).isTrue();
+        assertThat(unchanged.getVersion()).isEqualTo(version);
+    }
+
+    @Test
+    void findResponsesMatching_projectsMatchingRowsWithoutManagingEntities() {
+        Bank other = new Bank();
+        other.setCode("P002");
+        other.setName("Other Bank");
+        other.setCountry("France");
+        other.setActive(true);
+        bankRepository.saveAndFlush(other);
+        entityManager.clear();
+
+        List<BankResponse> rows = bankRepository.findResponsesMatching(
+                BankSpecifications.matching(new BankSearchCriteria("Spain", true, null, null, null), 0L), 10);
+
+        assertThat(rows).extracting(BankResponse::getCode).containsExactly("P001");
+        assertThat(rows.get(0).getVersion()).isEqualTo(bank.getVersion());
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+}
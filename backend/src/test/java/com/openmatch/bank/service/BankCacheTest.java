@@ -0,0 +1,50 @@
+package com.openmatch.bank.service;
+
+import com.openmatch.bank.dto.BankResponse;
+import com.openmatch.bank.event.BankChange;
+import com.openmatch.bank.event.BankChangeEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BankCacheTest {
+
+    private final BankCache cache = new BankCache(100, Duration.ofMinutes(1));
+
+    @Test
+    void put_dropsValueLoadedBeforeConcurrentWrite() {
+        long generation = cache.generation();
+        cache.onBankChange(BankChangeEvent.of(BankChange.updated(1L)));
+
+        cache.put(response(1L, "B001"), generation);
+
+        assertThat(cache.getById(1L)).isNull();
+    }
+
+    @Test
+    void getByCode_missesWhenCachedBankChangedCode() {
+        cache.put(response(1L, "B001"), cache.generation());
+        cache.put(response(1L, "B002"), cache.generation());
+
+        assertThat(cache.getByCode("B001")).isNull();
+        assertThat(cache.getByCode("B002").getId()).isEqualTo(1L);
+    }
+
+    @Test
+    void stats_countsHitsAndMisses() {
+        cache.put(response(1L, "B001"), cache.generation());
+
+        cache.getById(1L);
+        cache.getById(2L);
+
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+        assertThat(cache.stats().size()).isEqualTo(1);
+    }
+
+    private BankResponse response(Long id, String code) {
+        return new BankResponse(id, code, "Bank " + code, "Spain", true, null, 0L);
+    }
+}
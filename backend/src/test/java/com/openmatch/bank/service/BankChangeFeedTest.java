@@ -0,0 +1,147 @@
+package com.openmatch.bank.service;
+
+import com.openmatch.bank.dto.BankChangeNotification;
+import com.openmatch.bank.event.BankChange;
+import com.openmatch.bank.event.BankChangeEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BankChangeFeedTest {
+
+    private final BankChangeFeed feed = new BankChangeFeed(4, 10, Duration.ofMinutes(1), 2, Duration.ofSeconds(10));
+
+    @AfterEach
+    void tearDown() {
+        feed.destroy();
+    }
+
+    @Test
+    void readAfter_returnsChangesWithIncreasingSequence() {
+        feed.append(List.of(BankChange.created(10L), BankChange.updated(10L)));
+        feed.append(List.of(BankChange.deleted(10L)));
+
+        List<BankChangeNotification> changes = feed.readAfter(1L, 10);
+
+        assertThat(changes).extracting(BankChangeNotification::sequence).containsExactly(2L, 3L);
+        assertThat(changes).extracting(BankChangeNotification::type)
+                .containsExactly(BankChange.Type.UPDATED, BankChange.Type.DELETED);
+        assertThat(feed.latestSequence()).isEqualTo(3L);
+    }
+
+    @Test
+    void readAfter_isNullOnceTheRingWrapsPastTheCursor() {
+        for (long id = 1; id <= 6; id++) {
+            feed.append(List.of(BankChange.created(id)));
+        }
+
+        assertThat(feed.readAfter(1L, 10)).isNull();
+        assertThat(feed.readAfter(2L, 10)).extracting(BankChangeNotification::id).containsExactly(3L, 4L, 5L, 6L);
+        assertThat(feed.readAfter(99L, 10)).isNull();
+    }
+
+    @Test
+    void resumeSequence_acceptsOnlyIdsOfThisEpoch() {
+        feed.append(List.of(BankChange.created(1L), BankChange.created(2L)));
+        BankChangeFeed otherInstance = new BankChangeFeed(4, 10, Duration.ofMinutes(1), 2, Duration.ofSeconds(10));
+        try {
+            assertThat(feed.resumeSequence(null)).isEqualTo(2L);
+            assertThat(feed.resumeSequence(feed.eventId(1L))).isEqualTo(1L);
+            assertThat(feed.resumeSequence(otherInstance.eventId(1L))).isNegative();
+            assertThat(feed.resumeSequence("1")).isNegative();
+            assertThat(feed.resumeSequence(feed.eventId(1L) + "x")).isNegative();
+        } finally {
+            otherInstance.destroy();
+        }
+        assertThat(feed.readAfter(-1L, 10)).isNull();
+    }
+
+    @Test
+    void subscribe_refusesWhenLimitReached() {
+        BankChangeFeed small = new BankChangeFeed(4, 1, Duration.ofMinutes(1), 2, Duration.ofSeconds(10));
+        try {
+            assertThat(small.subscribe(null)).isNotNull();
+            assertThat(small.subscribe(null)).isNull();
+        } finally {
+            small.destroy();
+        }
+    }
+
+    @Test
+    void subscribe_admitsExactlyTheLimitUnderConcurrentSubscribes() throws Exception {
+        BankChangeFeed limited = new BankChangeFeed(4, 5, Duration.ofMinutes(1), 2, Duration.ofSeconds(10));
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<SseEmitter>> results = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return limited.subscribe(null);
+                }));
+            }
+            start.countDown();
+            int admitted = 0;
+            for (Future<SseEmitter> result : results) {
+                if (result.get(10, TimeUnit.SECONDS) != null) {
+                    admitted++;
+                }
+            }
+
+            assertThat(admitted).isEqualTo(5);
+            assertThat(limited.openStreams()).isEqualTo(5);
+        } finally {
+            pool.shutdownNow();
+            limited.destroy();
+        }
+    }
+
+    @Test
+    void closeStalled_closesStreamWhoseSendMissesTheDeadline() throws Exception {
+        BankChangeFeed slowFeed = new BankChangeFeed(4, 1, Duration.ofMinutes(1), 1, Duration.ofMillis(50));
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SseEmitter stalled = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                sending.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void complete() {
+                completed.countDown();
+                release.countDown();
+                super.complete();
+            }
+        };
+        try {
+            assertThat(slowFeed.subscribe(null, stalled)).isSameAs(stalled);
+            slowFeed.onBankChange(BankChangeEvent.of(BankChange.created(1L)));
+
+            assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(slowFeed.openStreams()).isZero();
+            assertThat(slowFeed.subscribe(null)).isNotNull();
+        } finally {
+            release.countDown();
+            slowFeed.destroy();
+        }
+    }
+}
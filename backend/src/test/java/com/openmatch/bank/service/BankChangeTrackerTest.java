@@ -0,0 +1,73 @@
+package com.openmatch.bank.service;
+
+import com.openmatch.bank.dto.BankResponse;
+import com.openmatch.bank.event.BankChange;
+import com.openmatch.bank.event.BankChangeEvent;
+import com.openmatch.bank.exception.InvalidBankRequestException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BankChangeTrackerTest {
+
+    private final BankChangeTracker tracker = new BankChangeTracker(false);
+
+    @Test
+    void listEtag_changesAfterEveryCommittedWrite() {
+        String before = tracker.listEtag(null, null, "id");
+
+        tracker.onBankChange(BankChangeEvent.of(BankChange.created(1L)));
+
+        assertThat(tracker.listEtag(null, null, "id")).isNotEqualTo(before);
+        assertThat(tracker.listVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void listEtag_isStrongAndDependsOnPage() {
+        String first = tracker.listEtag(null, 50, "id");
+
+        assertThat(first).startsWith("\"").endsWith("\"");
+        assertThat(tracker.listEtag(null, 50, "id")).isEqualTo(first);
+        assertThat(tracker.listEtag("SUQ6NTA", 50, "id")).isNotEqualTo(first);
+        assertThat(tracker.listEtag(null, 50, "code")).isNotEqualTo(first);
+    }
+
+    @Test
+    void listEtag_isBuiltFromNormalisedParameters() {
+        String cursor = PageCursor.encode(PageCursor.SortKey.CODE, "B\"01");
+
+        assertThat(tracker.listEtag(null, null, "id")).isEqualTo(tracker.listEtag(null, 50, " ID "));
+        assertThat(tracker.listEtag(cursor, 10, "code")).doesNotContain("B\"01").matches("\"[^\"]*\"");
+        assertThatThrownBy(() -> tracker.listEtag(null, null, "na\"me"))
+                .isInstanceOf(InvalidBankRequestException.class);
+        assertThatThrownBy(() -> tracker.listEtag("not a cursor\"", null, "id"))
+                .isInstanceOf(InvalidBankRequestException.class);
+    }
+
+    @Test
+    void itemEtag_dropsBootIdInClusterMode() {
+        BankResponse bank = new BankResponse(1L, "B001", "Bank", "Spain", true, null, 3L);
+
+        assertThat(new BankChangeTracker(true).itemEtag(bank)).isEqualTo(new BankChangeTracker(true).itemEtag(bank));
+        assertThat(new BankChangeTracker(false).itemEtag(bank)).isNotEqualTo(new BankChangeTracker(false).itemEtag(bank));
+    }
+
+    @Test
+    void snapshotEtag_followsSnapshotSequenceAndCoding() {
+        assertThat(tracker.snapshotEtag(3L, true)).isNotEqualTo(tracker.snapshotEtag(3L, false));
+        assertThat(tracker.snapshotEtag(3L, false)).isNotEqualTo(tracker.snapshotEtag(4L, false));
+
+        tracker.onBankChange(BankChangeEvent.of(BankChange.created(1L)));
+
+        assertThat(tracker.snapshotEtag(3L, true)).endsWith("-gzip\"").isEqualTo(tracker.snapshotEtag(3L, true));
+    }
+
+    @Test
+    void itemEtag_followsRowVersion() {
+        BankResponse v0 = new BankResponse(1L, "B001", "Bank", "Spain", true, null, 0L);
+        BankResponse v1 = new BankResponse(1L, "B001", "Bank", "Spain", true, null, 1L);
+
+        assertThat(tracker.itemEtag(v0)).isNotEqualTo(tracker.itemEtag(v1));
+    }
+}
@@ -0,0 +1,78 @@
+package com.openmatch.bank.service;
+
+import com.openmatch.bank.dto.BankBulkResult;
+import com.openmatch.bank.dto.BankIngestStatus;
+import com.openmatch.bank.dto.BankRequest;
+import com.openmatch.bank.dto.BankResponse;
+import com.openmatch.bank.exception.DuplicateBankException;
+import com.openmatch.bank.exception.IngestQueueFullException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+
+class BankIngestQueueTest {
+
+    private final BankService bankService = mock(BankService.class);
+    private BankIngestQueue queue;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        queue.destroy();
+    }
+
+    @Test
+    void submit_groupsQueuedBanksIntoOneBulkSave() throws Exception {
+        when(bankService.bulkSave(any(), anyBoolean())).thenReturn(new BankBulkResult(1, 0, 1, List.of(
+                new BankBulkResult.Item(0, "B001", BankBulkResult.Status.CREATED, 10L),
+                new BankBulkResult.Item(1, "B002", BankBulkResult.Status.DUPLICATE, 7L))));
+        queue = new BankIngestQueue(bankService, true, 100, 2, Duration.ofSeconds(1), Duration.ofMinutes(1));
+        BankIngestQueue.Ticket first = queue.submit(request("B001"));
+        BankIngestQueue.Ticket second = queue.submit(request("B002"));
+
+        assertThat(first.completion().get(5, TimeUnit.SECONDS).id()).isEqualTo(10L);
+        assertThat(second.completion().get(5, TimeUnit.SECONDS).state()).isEqualTo(BankIngestStatus.State.DUPLICATE);
+        assertThat(queue.status(first.id()).state()).isEqualTo(BankIngestStatus.State.CREATED);
+        verify(bankService, times(1)).bulkSave(any(), eq(false));
+    }
+
+    @Test
+    void write_fallsBackToSingleCreatesWhenBatchFails() throws Exception {
+        when(bankService.bulkSave(any(), anyBoolean())).thenThrow(new DataIntegrityViolationException("ux_bank_code"));
+        BankRequest ok = request("B001");
+        BankRequest taken = request("B002");
+        when(bankService.create(ok)).thenReturn(new BankResponse(10L, "B001", "Bank", null, true, null, 0L));
+        when(bankService.create(taken)).thenThrow(new DuplicateBankException("B002"));
+        queue = new BankIngestQueue(bankService, true, 100, 2, Duration.ofSeconds(1), Duration.ofMinutes(1));
+        BankIngestQueue.Ticket first = queue.submit(ok);
+        BankIngestQueue.Ticket second = queue.submit(taken);
+
+        assertThat(first.completion().get(5, TimeUnit.SECONDS).state()).isEqualTo(BankIngestStatus.State.CREATED);
+        assertThat(second.completion().get(5, TimeUnit.SECONDS).state()).isEqualTo(BankIngestStatus.State.DUPLICATE);
+    }
+
+    @Test
+    void submit_rejectsWhenQueueIsFull() {
+        queue = new BankIngestQueue(bankService, false, 1, 10, Duration.ofMillis(5), Duration.ofMinutes(1));
+        queue.submit(request("B001"));
+
+        assertThatThrownBy(() -> queue.submit(request("B002")))
+                .isInstanceOf(IngestQueueFullException.class);
+    }
+
+    private static BankRequest request(String code) {
+        BankRequest request = new BankRequest();
+        request.setCode(code);
+        request.setName("Bank " + code);
+        return request;
+    }
+}
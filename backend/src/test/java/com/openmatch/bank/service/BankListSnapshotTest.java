@@ -0,0 +1,54 @@
+package com.openmatch.bank.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.openmatch.bank.dto.BankPage;
+import com.openmatch.bank.dto.BankResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class BankListSnapshotTest {
+
+    private final BankService bankService = mock(BankService.class);
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private BankListSnapshot snapshot;
+
+    @AfterEach
+    void tearDown() {
+        if (snapshot != null) {
+            snapshot.destroy();
+        }
+    }
+
+    @Test
+    void current_isNullAndNeverQueriesWhenDisabled() {
+        snapshot = new BankListSnapshot(bankService, objectMapper, false, true);
+
+        assertThat(snapshot.current()).isNull();
+        verifyNoInteractions(bankService);
+    }
+
+    @Test
+    void build_serialisesDefaultPageAndGzippedCopy() throws IOException {
+        BankResponse bank = new BankResponse(1L, "B001", "Bank", "Spain", true, null, 0L);
+        when(bankService.findPage(null, null, null)).thenReturn(new BankPage(List.of(bank), "SUQ6MQ"));
+        snapshot = new BankListSnapshot(bankService, objectMapper, true, true);
+
+        BankListSnapshot.Page page = snapshot.build(3L);
+
+        assertThat(page.sequence()).isEqualTo(3L);
+        assertThat(page.nextCursor()).isEqualTo("SUQ6MQ");
+        assertThat(new String(page.json())).contains("\"code\":\"B001\"");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(page.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(page.json());
+        }
+    }
+}
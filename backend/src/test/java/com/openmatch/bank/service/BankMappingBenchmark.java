@@ -0,0 +1,84 @@
+package com.openmatch.bank.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openmatch.bank.dto.BankRequest;
+import com.openmatch.bank.dto.BankResponse;
+import com.openmatch.bank.entity.Bank;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the DTO mapping in {@link BankService} and of the JSON serialisation
+ * of single banks and 10k-element lists, with the same Jackson setup as Spring Boot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BankMappingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Bank bank;
+    private BankRequest request;
+    private BankResponse response;
+    private List<BankResponse> responses;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        bank = new Bank();
+        bank.setId(42L);
+        bank.setCode("B042");
+        bank.setName("Benchmark Bank 42");
+        bank.setCountry("Spain");
+        bank.setActive(true);
+        bank.setCreationDate(Instant.now());
+        request = new BankRequest();
+        request.setCode("B042");
+        request.setName("Benchmark Bank 42");
+        request.setCountry("Spain");
+        response = BankService.toResponse(bank);
+        responses = new ArrayList<>(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            responses.add(new BankResponse((long) i, "B" + i, "Benchmark Bank " + i, "Spain", true, Instant.now(), 0L));
+        }
+    }
+
+    @Benchmark
+    public BankResponse toResponse() {
+        return BankService.toResponse(bank);
+    }
+
+    @Benchmark
+    public Bank toEntity() {
+        return BankService.toEntity(request);
+    }
+
+    @Benchmark
+    public byte[] serializeSingle() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public byte[] serializeList10k() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+}
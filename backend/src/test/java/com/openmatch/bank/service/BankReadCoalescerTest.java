@@ -0,0 +1,170 @@
+package com.openmatch.bank.service;
+
+import com.openmatch.bank.event.BankChange;
+import com.openmatch.bank.event.BankChangeEvent;
+import com.openmatch.bank.exception.BankNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BankReadCoalescerTest {
+
+    private final BankReadCoalescer coalescer = new BankReadCoalescer(Duration.ofSeconds(5));
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentIdenticalReads_shareOneLoad() throws Exception {
+        Future<String> leader = read(1L, this::blockingLoad);
+        awaitLoads(1);
+        Future<String> follower = read(1L, this::blockingLoad);
+        awaitCoalesced(1);
+
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("loaded-1");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("loaded-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void readAfterCommittedWrite_doesNotJoinOlderFlight() throws Exception {
+        Future<String> leader = read(1L, this::blockingLoad);
+        awaitLoads(1);
+
+        coalescer.onBankChange(BankChangeEvent.of(BankChange.updated(1L)));
+        String fresh = coalescer.execute(BankReadCoalescer.FIND_BY_ID, 1L, () -> "fresh");
+        release.countDown();
+
+        assertThat(fresh).isEqualTo("fresh");
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("loaded-1");
+        assertThat(coalescer.coalesced(BankReadCoalescer.FIND_BY_ID)).isZero();
+    }
+
+    @Test
+    void readsWhileWriteCommits_areNotSharedUntilCommitCompletes() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            coalescer.onBankChange(BankChangeEvent.of(BankChange.updated(1L)));
+            Future<String> duringCommit = read(1L, this::blockingLoad);
+            awaitLoads(1);
+
+            assertThat(coalescer.execute(BankReadCoalescer.FIND_BY_ID, 1L, () -> "own")).isEqualTo("own");
+            assertThat(coalescer.coalesced(BankReadCoalescer.FIND_BY_ID)).isZero();
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            release.countDown();
+            assertThat(duringCommit.get(5, TimeUnit.SECONDS)).isEqualTo("loaded-1");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        CountDownLatch second = new CountDownLatch(1);
+        Future<String> leader = read(1L, () -> {
+            loads.incrementAndGet();
+            await(second);
+            return "after-commit";
+        });
+        awaitLoads(2);
+        Future<String> follower = read(1L, () -> "not shared");
+        awaitCoalesced(1);
+        second.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("after-commit");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("after-commit");
+    }
+
+    @Test
+    void joinTimeout_runsTheQueryInsteadOfWaitingForAStuckFlight() throws Exception {
+        BankReadCoalescer impatient = new BankReadCoalescer(Duration.ofMillis(50));
+        Future<String> stuck = executor.submit(
+                () -> impatient.execute(BankReadCoalescer.FIND_BY_ID, 1L, this::blockingLoad));
+        awaitLoads(1);
+
+        String own = impatient.execute(BankReadCoalescer.FIND_BY_ID, 1L, () -> "own");
+        release.countDown();
+
+        assertThat(own).isEqualTo("own");
+        assertThat(impatient.coalesced(BankReadCoalescer.FIND_BY_ID)).isEqualTo(1L);
+        assertThat(stuck.get(5, TimeUnit.SECONDS)).isEqualTo("loaded-1");
+    }
+
+    @Test
+    void differentKeys_doNotShare() {
+        coalescer.execute(BankReadCoalescer.FIND_BY_ID, 1L, () -> loads.incrementAndGet());
+        coalescer.execute(BankReadCoalescer.FIND_BY_ID, 2L, () -> loads.incrementAndGet());
+        coalescer.execute(BankReadCoalescer.FIND_BY_ID, 1L, () -> loads.incrementAndGet());
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void failedLoad_isRethrownToEveryReader() throws Exception {
+        Future<String> leader = read(7L, () -> {
+            blockingLoad();
+            throw new BankNotFoundException(7L);
+        });
+        awaitLoads(1);
+        Future<String> follower = read(7L, this::blockingLoad);
+        awaitCoalesced(1);
+
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(BankNotFoundException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(BankNotFoundException.class);
+        assertThat(loads).hasValue(1);
+    }
+
+    private Future<String> read(Long id, Supplier<String> loader) {
+        return executor.submit(() -> coalescer.execute(BankReadCoalescer.FIND_BY_ID, id, loader));
+    }
+
+    private String blockingLoad() {
+        int load = loads.incrementAndGet();
+        await(release);
+        return "loaded-" + load;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitLoads(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loads.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private void awaitCoalesced(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescer.coalesced(BankReadCoalescer.FIND_BY_ID) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+}
@@ -1,24 +1,53 @@
 package com.openmatch.bank.service;
 
+import com.openmatch.bank.dto.BankBulkDeleteResult;
+import com.openmatch.bank.dto.BankBulkResult;
+import com.openmatch.bank.dto.BankLookupResult;
+import com.openmatch.bank.dto.BankPage;
+import com.openmatch.bank.dto.BankPatchRequest;
 import com.openmatch.bank.dto.BankRequest;
 import com.openmatch.bank.dto.BankResponse;
+import com.openmatch.bank.dto.BankSearchCriteria;
 import com.openmatch.bank.entity.Bank;
+import com.openmatch.bank.event.BankChange;
+import com.openmatch.bank.event.BankChangeEvent;
 import com.openmatch.bank.exception.BankNotFoundException;
+import com.openmatch.bank.exception.BankVersionConflictException;
+import com.openmatch.bank.exception.BulkWriteConflictException;
 import com.openmatch.bank.exception.DuplicateBankException;
+import com.openmatch.bank.exception.InvalidBankRequestException;
 import com.openmatch.bank.repository.BankRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +56,21 @@ class BankServiceTest {
     @Mock
     private BankRepository bankRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private BankCache bankCache = new BankCache(100, Duration.ofMinutes(1));
+
+    @Spy
+    private BankReadCoalescer readCoalescer = new BankReadCoalescer(Duration.ofSeconds(5));
+
     @InjectMocks
     private BankService bankService;
 
@@ -35,6 +79,8 @@ class BankServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(bankService, "entityManager", entityManager);
+
         request = new BankRequest();
         request.setCode("B001");
         request.setName("Test Bank");
@@ -51,8 +97,7 @@ class BankServiceTest {
 
     @Test
     void create_createsBankCorrectly() {
-        when(bankRepository.existsByCode("B001")).thenReturn(false);
-        when(bankRepository.save(any(Bank.class))).thenAnswer(inv -> {
+        when(bankRepository.saveAndFlush(any(Bank.class))).thenAnswer(inv -> {
             Bank b = inv.getArgument(0);
             b.setId(1L);
             return b;
@@ -65,24 +110,33 @@ class BankServiceTest {
         assertThat(response.getName()).isEqualTo("Test Bank");
         assertThat(response.getCountry()).isEqualTo("Spain");
         assertThat(response.isActive()).isTrue();
-        verify(bankRepository).existsByCode("B001");
-        verify(bankRepository).save(any(Bank.class));
+        verify(bankRepository).saveAndFlush(any(Bank.class));
+        verify(bankRepository, never()).existsByCode(any());
     }
 
     @Test
     void create_throwsExceptionIfDuplicateCode() {
-        when(bankRepository.existsByCode("B001")).thenReturn(true);
+        when(bankRepository.saveAndFlush(any(Bank.class))).thenThrow(codeViolation());
 
         assertThatThrownBy(() -> bankService.create(request))
                 .isInstanceOf(DuplicateBankException.class)
                 .hasMessageContaining("B001");
-        verify(bankRepository).existsByCode("B001");
-        verify(bankRepository, never()).save(any());
+        verify(bankRepository, never()).existsByCode(any());
+    }
+
+    @Test
+    void create_rethrowsOtherConstraintViolations() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException(
+                "could not execute statement", new ConstraintViolationException("could not execute statement",
+                new SQLException("NULL not allowed for column \"NAME\" (ux_bank_code)"), null));
+        when(bankRepository.saveAndFlush(any(Bank.class))).thenThrow(violation);
+
+        assertThatThrownBy(() -> bankService.create(request)).isSameAs(violation);
     }
 
     @Test
     void findById_returnsBankWhenExists() {
-        when(bankRepository.findById(1L)).thenReturn(Optional.of(bank));
+        when(bankRepository.findResponseById(1L)).thenReturn(Optional.of(BankService.toResponse(bank)));
 
         BankResponse response = bankService.findById(1L);
 
@@ -90,44 +144,390 @@ class BankServiceTest {
         assertThat(response.getCode()).isEqualTo("B001");
     }
 
+    @Test
+    void findById_servesRepeatedReadsFromCache() {
+        when(bankRepository.findResponseById(1L)).thenReturn(Optional.of(BankService.toResponse(bank)));
+
+        bankService.findById(1L);
+        BankResponse response = bankService.findById(1L);
+
+        assertThat(response.getCode()).isEqualTo("B001");
+        verify(bankRepository, times(1)).findResponseById(1L);
+        assertThat(bankService.cacheStats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    void findByCode_usesCacheFilledByIdLookup() {
+        when(bankRepository.findResponseById(1L)).thenReturn(Optional.of(BankService.toResponse(bank)));
+
+        bankService.findById(1L);
+        BankResponse response = bankService.findByCode("B001");
+
+        assertThat(response.getId()).isEqualTo(1L);
+        verify(bankRepository, never()).findResponseByCode(any());
+    }
+
+    @Test
+    void findByCode_throwsExceptionWhenNotExists() {
+        when(bankRepository.findResponseByCode("NOPE")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> bankService.findByCode("NOPE"))
+                .isInstanceOf(BankNotFoundException.class)
+                .hasMessageContaining("NOPE");
+    }
+
     @Test
     void findById_throwsExceptionWhenNotExists() {
-        when(bankRepository.findById(999L)).thenReturn(Optional.empty());
+        when(bankRepository.findResponseById(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> bankService.findById(999L))
                 .isInstanceOf(BankNotFoundException.class)
                 .hasMessageContaining("999");
     }
 
+    @Test
+    void lookup_returnsEveryKeyInRequestOrderWithNotFoundMarkers() {
+        when(bankRepository.findResponsesByIdIn(any())).thenReturn(List.of(responseWithId(1L), responseWithId(3L)));
+        when(bankRepository.findResponsesByCodeIn(any())).thenReturn(List.of(responseWithId(2L)));
+
+        BankLookupResult result = bankService.lookup(List.of(3L, 1L, 99L, 1L), List.of("B2", "NOPE"));
+
+        assertThat(result.ids()).extracting(BankLookupResult.Item::id).containsExactly(3L, 1L, 99L, 1L);
+        assertThat(result.ids()).extracting(BankLookupResult.Item::found).containsExactly(true, true, false, true);
+        assertThat(result.ids().get(2).bank()).isNull();
+        assertThat(result.codes()).extracting(BankLookupResult.Item::code).containsExactly("B2", "NOPE");
+        assertThat(result.codes()).extracting(BankLookupResult.Item::found).containsExactly(true, false);
+        assertThat(result.codes().get(0).bank().getId()).isEqualTo(2L);
+    }
+
+    @Test
+    void lookup_queriesOnlyCacheMissesOneChunkAtATime() {
+        bankCache.put(responseWithId(1L), bankCache.generation());
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 2 * BankService.LOOKUP_CHUNK_SIZE + 1; id++) {
+            ids.add(id);
+        }
+        when(bankRepository.findResponsesByIdIn(any())).thenReturn(List.of());
+
+        BankLookupResult result = bankService.lookup(ids, null);
+
+        verify(bankRepository, times(2)).findResponsesByIdIn(any());
+        verify(bankRepository, never()).findResponsesByCodeIn(any());
+        assertThat(result.ids().get(0).found()).isTrue();
+        assertThat(result.ids()).filteredOn(BankLookupResult.Item::found).hasSize(1);
+    }
+
+    @Test
+    void lookup_rejectsTooManyKeys() {
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i <= BankService.MAX_LOOKUP_KEYS; i++) {
+            codes.add("C" + i);
+        }
+
+        assertThatThrownBy(() -> bankService.lookup(null, codes))
+                .isInstanceOf(InvalidBankRequestException.class);
+        verifyNoInteractions(bankRepository);
+    }
+
     @Test
     void update_updatesCorrectly() {
         when(bankRepository.findById(1L)).thenReturn(Optional.of(bank));
-        when(bankRepository.save(any(Bank.class))).thenReturn(bank);
+        when(bankRepository.saveAndFlush(any(Bank.class))).thenReturn(bank);
 
         request.setName("Updated Bank");
         request.setCode("B001"); // same code, existsByCodeAndIdNot is not called
         BankResponse response = bankService.update(1L, request);
 
         assertThat(response.getName()).isEqualTo("Updated Bank");
-        verify(bankRepository).save(bank);
+        verify(bankRepository).saveAndFlush(bank);
     }
 
     @Test
-    void deleteById_deletesWhenExists() {
+    void update_throwsDuplicateWhenConcurrentWriteTakesTheCode() {
+        when(bankRepository.findById(1L)).thenReturn(Optional.of(bank));
+        when(bankRepository.existsByCodeAndIdNot("B002", 1L)).thenReturn(false);
+        when(bankRepository.saveAndFlush(any(Bank.class))).thenThrow(codeViolation());
+        request.setCode("B002");
+
+        assertThatThrownBy(() -> bankService.update(1L, request))
+                .isInstanceOf(DuplicateBankException.class)
+                .hasMessageContaining("B002");
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void patch_appliesFieldsWithSingleConditionalUpdate() {
+        BankPatchRequest patch = new BankPatchRequest();
+        patch.setVersion(3L);
+        patch.setActive(false);
+        when(bankRepository.patch(1L, 3L, null, null, false)).thenReturn(1);
+        when(bankRepository.findResponseById(1L)).thenReturn(Optional.of(BankService.toResponse(bank)));
+
+        BankResponse response = bankService.patch(1L, patch);
+
+        assertThat(response.getId()).isEqualTo(1L);
+        verify(bankRepository, never()).save(any());
+    }
+
+    @Test
+    void patch_throwsConflictWhenVersionIsStale() {
+        BankPatchRequest patch = new BankPatchRequest();
+        patch.setVersion(2L);
+        patch.setName("Renamed");
+        when(bankRepository.patch(1L, 2L, "Renamed", null, null)).thenReturn(0);
         when(bankRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(bankRepository).deleteById(1L);
+
+        assertThatThrownBy(() -> bankService.patch(1L, patch))
+                .isInstanceOf(BankVersionConflictException.class);
+    }
+
+    @Test
+    void patch_throwsNotFoundWhenBankDoesNotExist() {
+        BankPatchRequest patch = new BankPatchRequest();
+        patch.setVersion(0L);
+        when(bankRepository.patch(999L, 0L, null, null, null)).thenReturn(0);
+        when(bankRepository.existsById(999L)).thenReturn(false);
+
+        assertThatThrownBy(() -> bankService.patch(999L, patch))
+                .isInstanceOf(BankNotFoundException.class);
+    }
+
+    @Test
+    void deleteById_deletesWithSingleStatement() {
+        when(bankRepository.deleteBankById(1L)).thenReturn(1);
 
         bankService.deleteById(1L);
 
-        verify(bankRepository).deleteById(1L);
+        verify(bankRepository).deleteBankById(1L);
+        verify(bankRepository, never()).existsById(any());
+        verify(bankRepository, never()).findById(any());
     }
 
     @Test
-    void deleteById_throwsExceptionWhenNotExists() {
-        when(bankRepository.existsById(999L)).thenReturn(false);
+    void deleteById_throwsExceptionWhenNoRowDeleted() {
+        when(bankRepository.deleteBankById(999L)).thenReturn(0);
 
         assertThatThrownBy(() -> bankService.deleteById(999L))
                 .isInstanceOf(BankNotFoundException.class);
-        verify(bankRepository, never()).deleteById(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void bulkDelete_byIdsDeletesInChunks() {
+        runTransactionCallbacks();
+        List<Long> ids = new ArrayList<>();
+        for (long i = 1; i <= BankService.DELETE_CHUNK_SIZE + 10; i++) {
+            ids.add(i);
+        }
+        when(bankRepository.lockExistingIds(any())).thenAnswer(inv -> new ArrayList<>(inv.<List<Long>>getArgument(0)));
+        when(bankRepository.deleteBanksByIdIn(any())).thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+
+        BankBulkDeleteResult result = bankService.bulkDelete(ids, null, null);
+
+        assertThat(result.deleted()).isEqualTo(ids.size());
+        verify(bankRepository, times(2)).deleteBanksByIdIn(any());
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void bulkDelete_byFilterWalksIdsWithKeyset() {
+        runTransactionCallbacks();
+        List<Long> firstChunk = new ArrayList<>();
+        for (long i = 1; i <= BankService.DELETE_CHUNK_SIZE; i++) {
+            firstChunk.add(i);
+        }
+        long lastId = BankService.DELETE_CHUNK_SIZE;
+        when(bankRepository.findIdsMatching(any(), eq(BankService.DELETE_CHUNK_SIZE)))
+                .thenReturn(firstChunk)
+                .thenReturn(List.of(lastId + 1));
+        when(bankRepository.lockExistingIds(any())).thenAnswer(inv -> new ArrayList<>(inv.<List<Long>>getArgument(0)));
+        when(bankRepository.deleteBanksByIdIn(any())).thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+
+        BankBulkDeleteResult result = bankService.bulkDelete(null, false, null);
+
+        assertThat(result.deleted()).isEqualTo(lastId + 1);
+        verify(bankRepository, times(2)).findIdsMatching(any(), eq(BankService.DELETE_CHUNK_SIZE));
+        verify(bankRepository, times(2)).deleteBanksByIdIn(any());
+    }
+
+    @Test
+    void bulkDelete_publishesOnlyRowsActuallyDeleted() {
+        runTransactionCallbacks();
+        when(bankRepository.lockExistingIds(List.of(1L, 2L, 3L))).thenReturn(List.of(1L, 3L));
+        when(bankRepository.deleteBanksByIdIn(List.of(1L, 3L))).thenReturn(2);
+
+        BankBulkDeleteResult result = bankService.bulkDelete(List.of(1L, 2L, 2L, 3L, 1L), null, null);
+
+        assertThat(result.deleted()).isEqualTo(2);
+        ArgumentCaptor<BankChangeEvent> event = ArgumentCaptor.forClass(BankChangeEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().changes()).containsExactly(BankChange.deleted(1L), BankChange.deleted(3L));
+    }
+
+    @Test
+    void bulkDelete_publishesNothingWhenNoIdExists() {
+        runTransactionCallbacks();
+        when(bankRepository.lockExistingIds(any())).thenReturn(List.of());
+
+        BankBulkDeleteResult result = bankService.bulkDelete(List.of(404L), null, null);
+
+        assertThat(result.deleted()).isZero();
+        verify(bankRepository, never()).deleteBanksByIdIn(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void bulkDelete_rejectsMissingOrMixedCriteria() {
+        assertThatThrownBy(() -> bankService.bulkDelete(null, null, null))
+                .isInstanceOf(InvalidBankRequestException.class);
+        assertThatThrownBy(() -> bankService.bulkDelete(List.of(1L), false, null))
+                .isInstanceOf(InvalidBankRequestException.class);
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void search_returnsPageAndCursorWhenMoreRowsMatch() {
+        when(bankRepository.findResponsesMatching(ArgumentMatchers.<Specification<Bank>>any(), eq(3)))
+                .thenReturn(List.of(responseWithId(4L), responseWithId(9L), responseWithId(12L)));
+
+        BankPage page = bankService.search(new BankSearchCriteria("Spain", true, null, null, null), null, 2);
+
+        assertThat(page.items()).extracting(BankResponse::getId).containsExactly(4L, 9L);
+        assertThat(PageCursor.decodeId(page.nextCursor())).isEqualTo(9L);
+    }
+
+    @Test
+    void search_rejectsEmptyCreationDateRange() {
+        Instant now = Instant.now();
+        BankSearchCriteria criteria = new BankSearchCriteria(null, null, null, now, now);
+
+        assertThatThrownBy(() -> bankService.search(criteria, null, null))
+                .isInstanceOf(InvalidBankRequestException.class);
+        verifyNoInteractions(bankRepository);
+    }
+
+    @Test
+    void findPage_returnsPageAndCursorForNextPage() {
+        when(bankRepository.findResponsesAfterId(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(responseWithId(1L), responseWithId(2L), responseWithId(3L)));
+        when(bankRepository.findResponsesAfterId(eq(2L), any(Limit.class)))
+                .thenReturn(List.of(responseWithId(3L)));
+
+        BankPage first = bankService.findPage(null, 2, "id");
+        BankPage second = bankService.findPage(first.nextCursor(), 2, "id");
+
+        assertThat(first.items()).extracting(BankResponse::getId).containsExactly(1L, 2L);
+        assertThat(first.nextCursor()).isNotNull();
+        assertThat(second.items()).extracting(BankResponse::getId).containsExactly(3L);
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    void findPage_capsLimitAtMaximum() {
+        when(bankRepository.findResponsesAfterId(eq(0L), any(Limit.class))).thenReturn(List.of());
+
+        bankService.findPage(null, 1_000_000, null);
+
+        ArgumentCaptor<Limit> limit = ArgumentCaptor.forClass(Limit.class);
+        verify(bankRepository).findResponsesAfterId(eq(0L), limit.capture());
+        assertThat(limit.getValue().max()).isEqualTo(BankService.MAX_PAGE_SIZE + 1);
+    }
+
+    @Test
+    void findPage_rejectsCursorIssuedForAnotherSortKey() {
+        when(bankRepository.findResponsesAfterId(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(responseWithId(1L), responseWithId(2L)));
+        String idCursor = bankService.findPage(null, 1, "id").nextCursor();
+
+        assertThatThrownBy(() -> bankService.findPage(idCursor, 1, "code"))
+                .isInstanceOf(InvalidBankRequestException.class);
+        verify(bankRepository, never()).findResponsesAfterCode(any(), any());
+    }
+
+    @Test
+    void exportAll_sendsEveryRowToSinkInOrder() {
+        when(bankRepository.streamResponses())
+                .thenReturn(Stream.of(responseWithId(1L), responseWithId(2L)));
+        List<BankResponse> exported = new ArrayList<>();
+
+        long count = bankService.exportAll(exported::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(exported).extracting(BankResponse::getCode).containsExactly("B1", "B2");
+    }
+
+    @Test
+    void bulkSave_reportsCreatedAndDuplicatesPerItem() {
+        when(bankRepository.findByCodeIn(any())).thenReturn(List.of(bank));
+        when(bankRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        BankBulkResult result = bankService.bulkSave(List.of(request, requestWithCode("B002"), requestWithCode("B002")), false);
+
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.duplicates()).isEqualTo(2);
+        assertThat(result.items()).extracting(BankBulkResult.Item::status).containsExactly(
+                BankBulkResult.Status.DUPLICATE, BankBulkResult.Status.CREATED, BankBulkResult.Status.DUPLICATE);
+        assertThat(result.items().get(0).id()).isEqualTo(1L);
+        verify(bankRepository, times(1)).findByCodeIn(any());
+        verify(entityManager).flush();
+    }
+
+    @Test
+    void bulkSave_updatesExistingCodeInUpsertMode() {
+        when(bankRepository.findByCodeIn(any())).thenReturn(List.of(bank));
+        when(bankRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
+        request.setName("Renamed Bank");
+
+        BankBulkResult result = bankService.bulkSave(List.of(request), true);
+
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.items().get(0).status()).isEqualTo(BankBulkResult.Status.UPDATED);
+        assertThat(bank.getName()).isEqualTo("Renamed Bank");
+    }
+
+    @Test
+    void bulkSave_reportsConflictWhenConcurrentInsertWinsTheCode() {
+        when(bankRepository.findByCodeIn(any())).thenReturn(List.of());
+        when(bankRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
+        doThrow(new ConstraintViolationException("could not execute batch",
+                new SQLException("Unique index or primary key violation: \"PUBLIC.UX_BANK_CODE_INDEX_1\""),
+                "PUBLIC.UX_BANK_CODE_INDEX_1")).when(entityManager).flush();
+
+        assertThatThrownBy(() -> bankService.bulkSave(List.of(requestWithCode("B002")), false))
+                .isInstanceOf(BulkWriteConflictException.class);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private static DataIntegrityViolationException codeViolation() {
+        return new DataIntegrityViolationException("could not execute statement", new ConstraintViolationException(
+                "could not execute statement", new SQLException("Unique index or primary key violation"),
+                "PUBLIC.UX_BANK_CODE_INDEX_1"));
+    }
+
+    private void runTransactionCallbacks() {
+        when(transactionTemplate.execute(any())).thenAnswer(inv -> {
+            TransactionCallback<?> callback = inv.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    private BankRequest requestWithCode(String code) {
+        BankRequest r = new BankRequest();
+        r.setCode(code);
+        r.setName("Bank " + code);
+        return r;
+    }
+
+    private BankResponse responseWithId(Long id) {
+        return BankService.toResponse(bankWithId(id));
+    }
+
+    private Bank bankWithId(Long id) {
+        Bank b = new Bank();
+        b.setId(id);
+        b.setCode("B" + id);
+        b.setName("Bank " + id);
+        b.setActive(true);
+        return b;
     }
 }
@@ -0,0 +1,63 @@
+package com.openmatch.bank.service;
+
+import com.openmatch.bank.dto.BankResponse;
+import com.openmatch.bank.dto.BankSuggestion;
+import com.openmatch.bank.repository.BankRepository;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of {@link BankSuggestIndex#suggest} over one million banks. Sample-time mode
+ * reports the latency distribution (p99, p99.9) of single lookups with 1 to 4 typed characters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BankSuggestIndexBenchmark {
+
+    private static final String[] WORDS = {"Banco", "Caja", "Credit", "Union", "Popular", "Rural", "Santander",
+            "Sabadell", "Mutual", "Deutsche", "Société", "Générale", "Nordic", "Capital", "Ahorros", "Privada"};
+
+    @Param({"1000000"})
+    private int size;
+
+    private BankSuggestIndex index;
+    private String[] queries;
+
+    @Setup
+    public void setUp() {
+        index = new BankSuggestIndex(Mockito.mock(BankService.class), Mockito.mock(BankRepository.class), false);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < size; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            index.put(new BankResponse((long) i, "B" + i, name, "Spain", true, null, 0L));
+        }
+        queries = new String[1024];
+        for (int i = 0; i < queries.length; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            queries[i] = word.substring(0, 1 + random.nextInt(Math.min(4, word.length())));
+        }
+    }
+
+    @Benchmark
+    public List<BankSuggestion> suggest() {
+        return index.suggest(queries[ThreadLocalRandom.current().nextInt(queries.length)], 10);
+    }
+}
@@ -0,0 +1,70 @@
+package com.openmatch.bank.service;
+
+import com.openmatch.bank.dto.BankResponse;
+import com.openmatch.bank.dto.BankSuggestion;
+import com.openmatch.bank.repository.BankRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BankSuggestIndexTest {
+
+    private final BankRepository bankRepository = mock(BankRepository.class);
+    private final BankSuggestIndex index = new BankSuggestIndex(mock(BankService.class), bankRepository, false);
+
+    @Test
+    void suggest_matchesCodeNameAndWordsIgnoringCaseAndAccents() {
+        index.put(response(1L, "BSCH", "Banco Santander"));
+        index.put(response(2L, "CAIXA", "CaixaBank"));
+        index.put(response(3L, "BPOP", "Banco Popular Español"));
+
+        assertThat(ids(index.suggest("bs", 10))).containsExactly(1L);
+        assertThat(ids(index.suggest("BANCO", 10))).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(ids(index.suggest("santa", 10))).containsExactly(1L);
+        assertThat(ids(index.suggest("espanol", 10))).containsExactly(3L);
+        assertThat(ids(index.suggest("caixa", 10))).containsExactly(2L);
+        assertThat(index.suggest("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void suggest_returnsEachBankOnceUpToLimit() {
+        index.put(response(1L, "BANCO1", "Banco Uno"));
+        index.put(response(2L, "BANCO2", "Banco Dos"));
+        index.put(response(3L, "BANCO3", "Banco Tres"));
+
+        assertThat(index.suggest("banco", 2)).hasSize(2).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void put_replacesOldTermsOnRename() {
+        index.put(response(1L, "B001", "Old Name"));
+
+        index.put(response(1L, "B001", "New Name"));
+
+        assertThat(index.suggest("old", 10)).isEmpty();
+        assertThat(ids(index.suggest("new", 10))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void reload_removesBanksNoLongerInDatabase() {
+        index.put(response(1L, "B001", "Gone Bank"));
+        when(bankRepository.findResponsesByIdIn(List.of(1L, 2L))).thenReturn(List.of(response(2L, "B002", "Kept Bank")));
+
+        index.reload(List.of(1L, 2L));
+
+        assertThat(ids(index.suggest("b00", 10))).containsExactly(2L);
+    }
+
+    private static BankResponse response(Long id, String code, String name) {
+        return new BankResponse(id, code, name, null, true, null, 0L);
+    }
+
+    private static List<Long> ids(List<BankSuggestion> suggestions) {
+        return suggestions.stream().map(BankSuggestion::id).toList();
+    }
+}
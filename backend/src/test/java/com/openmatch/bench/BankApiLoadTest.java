@@ -0,0 +1,290 @@
+package com.openmatch.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * End-to-end HTTP load test of the bank API. Boots the application on a random port, seeds it,
+ * and drives a weighted mix of requests at a fixed target rate (open loop).
+ * <p>
+ * Latency is measured from the time each request was scheduled to be sent, not from when it
+ * was actually sent, so queueing caused by a slow server is not hidden (coordinated omission
+ * correction). The uncorrected service time is reported next to it for comparison.
+ * <p>
+ * Run with {@code ./mvnw test -Pbenchmark -Dtest=BankApiLoadTest}. Options:
+ * {@code -Dload.seed=10000 -Dload.rate=2000 -Dload.duration=30 -Dload.warmup=5
+ * -Dload.max-in-flight=1000 -Dload.mix=list=30,get=35,code=5,internal=5,create=10,update=10,delete=5
+ * -Dload.args=--spring.profiles.active=virtual-threads -Dload.report=target/load-test-report.csv}.
+ * Deletes target banks created by the test itself; when none are available a create is sent instead.
+ */
+@Tag("benchmark")
+class BankApiLoadTest {
+
+    private static final int SEED = Integer.getInteger("load.seed", 10_000);
+    private static final int RATE = Integer.getInteger("load.rate", 2_000);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup", 5));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration", 30));
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("load.max-in-flight", 1_000);
+    private static final String MIX = System.getProperty("load.mix",
+            "list=30,get=35,code=5,internal=5,create=10,update=10,delete=5");
+    private static final String APP_ARGS = System.getProperty("load.args", "");
+    private static final Path REPORT = Path.of(System.getProperty("load.report", "target/load-test-report.csv"));
+
+    enum Endpoint {
+        LIST(200), GET(200), CODE(200), INTERNAL(200), CREATE(201), UPDATE(200), DELETE(204);
+
+        private final int expectedStatus;
+
+        Endpoint(int expectedStatus) {
+            this.expectedStatus = expectedStatus;
+        }
+    }
+
+    private record SeededBank(long id, String code) {}
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong nextCode = new AtomicLong();
+
+    @Test
+    void mixedWorkload() throws Exception {
+        Map<Endpoint, Integer> weights = parseMix(MIX);
+        String[] args = APP_ARGS.isBlank() ? new String[0] : APP_ARGS.split(",");
+        try (BenchmarkApp app = BenchmarkApp.start(new String[0], args)) {
+            app.seed(SEED);
+            List<SeededBank> seeded = readSeeded(app);
+            new LoadRun(app, weights, seeded).run(WARMUP);
+            LoadRun measured = new LoadRun(app, weights, seeded);
+            measured.run(DURATION);
+            String report = measured.report();
+            System.out.println(report);
+            Files.createDirectories(REPORT.toAbsolutePath().getParent());
+            Files.writeString(REPORT, measured.csv());
+        }
+    }
+
+    private List<SeededBank> readSeeded(BenchmarkApp app) throws IOException, InterruptedException {
+        HttpResponse<Stream<String>> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(app.uri("/api/banks/export")).GET().build(),
+                HttpResponse.BodyHandlers.ofLines());
+        List<SeededBank> seeded = new ArrayList<>(SEED);
+        try (Stream<String> lines = response.body()) {
+            for (String line : (Iterable<String>) lines::iterator) {
+                if (!line.isBlank()) {
+                    JsonNode node = objectMapper.readTree(line);
+                    seeded.add(new SeededBank(node.get("id").asLong(), node.get("code").asText()));
+                }
+            }
+        }
+        return seeded;
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split("=");
+            weights.put(Endpoint.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    /**
+     * One open-loop run: requests are scheduled every 1/rate seconds regardless of completions.
+     */
+    private final class LoadRun {
+
+        private final BenchmarkApp app;
+        private final List<SeededBank> seeded;
+        private final Endpoint[] endpoints;
+        private final int[] cumulativeWeights;
+        private final ExecutorService callbacks = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        private final HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(callbacks)
+                .build();
+        private final Map<Endpoint, Histogram> responseTimes = new EnumMap<>(Endpoint.class);
+        private final Map<Endpoint, Histogram> serviceTimes = new EnumMap<>(Endpoint.class);
+        private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+        private final Queue<Long> createdIds = new ConcurrentLinkedQueue<>();
+        private final Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+        private long elapsedNanos;
+
+        LoadRun(BenchmarkApp app, Map<Endpoint, Integer> weights, List<SeededBank> seeded) {
+            this.app = app;
+            this.seeded = seeded;
+            this.endpoints = weights.keySet().toArray(new Endpoint[0]);
+            this.cumulativeWeights = new int[endpoints.length];
+            int total = 0;
+            for (int i = 0; i < endpoints.length; i++) {
+                total += weights.get(endpoints[i]);
+                cumulativeWeights[i] = total;
+            }
+            for (Endpoint endpoint : Endpoint.values()) {
+                responseTimes.put(endpoint, new ConcurrentHistogram(3));
+                serviceTimes.put(endpoint, new ConcurrentHistogram(3));
+                errors.put(endpoint, new LongAdder());
+            }
+        }
+
+        void run(Duration duration) throws InterruptedException {
+            long interval = TimeUnit.SECONDS.toNanos(1) / RATE;
+            long start = System.nanoTime();
+            long end = start + duration.toNanos();
+            for (long i = 0; ; i++) {
+                long intendedStart = start + i * interval;
+                if (intendedStart >= end) {
+                    break;
+                }
+                long wait;
+                while ((wait = intendedStart - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                // Blocking here delays sending, and that delay is counted in the response time
+                inFlight.acquire();
+                send(pick(), intendedStart);
+            }
+            inFlight.acquire(MAX_IN_FLIGHT);
+            inFlight.release(MAX_IN_FLIGHT);
+            elapsedNanos = System.nanoTime() - start;
+            callbacks.shutdown();
+        }
+
+        private Endpoint pick() {
+            int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (value < cumulativeWeights[i]) {
+                    return endpoints[i];
+                }
+            }
+            return endpoints[endpoints.length - 1];
+        }
+
+        private void send(Endpoint endpoint, long intendedStart) {
+            Long deleteId = endpoint == Endpoint.DELETE ? createdIds.poll() : null;
+            Endpoint actual = endpoint == Endpoint.DELETE && deleteId == null ? Endpoint.CREATE : endpoint;
+            HttpRequest request = request(actual, deleteId);
+            long sent = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .whenCompleteAsync((response, failure) -> {
+                        try {
+                            long now = System.nanoTime();
+                            responseTimes.get(actual).recordValue(now - intendedStart);
+                            serviceTimes.get(actual).recordValue(now - sent);
+                            if (failure != null || response.statusCode() != actual.expectedStatus) {
+                                errors.get(actual).increment();
+                            } else if (actual == Endpoint.CREATE) {
+                                createdIds.add(objectMapper.readTree(response.body()).get("id").asLong());
+                            }
+                        } catch (IOException ex) {
+                            errors.get(actual).increment();
+                        } finally {
+                            inFlight.release();
+                        }
+                    }, callbacks);
+        }
+
+        private HttpRequest request(Endpoint endpoint, Long deleteId) {
+            SeededBank bank = seeded.get(ThreadLocalRandom.current().nextInt(seeded.size()));
+            return switch (endpoint) {
+                case LIST -> get("/api/banks?limit=20");
+                case GET -> get("/api/banks/" + bank.id());
+                case CODE -> get("/api/banks/code/" + bank.code());
+                case INTERNAL -> get("/api/banks/internal-query");
+                case CREATE -> json(HttpRequest.newBuilder(app.uri("/api/banks")),
+                        body("LT" + nextCode.incrementAndGet(), "Load Test Bank")).build();
+                case UPDATE -> HttpRequest.newBuilder(app.uri("/api/banks/" + bank.id()))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(body(bank.code(), "Updated Bank " + System.nanoTime())))
+                        .build();
+                case DELETE -> HttpRequest.newBuilder(app.uri("/api/banks/" + deleteId)).DELETE().build();
+            };
+        }
+
+        private HttpRequest get(String path) {
+            return HttpRequest.newBuilder(app.uri(path)).GET().build();
+        }
+
+        private HttpRequest.Builder json(HttpRequest.Builder builder, String body) {
+            return builder.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body));
+        }
+
+        private String body(String code, String name) {
+            return "{\"code\":\"" + code + "\",\"name\":\"" + name + "\",\"country\":\"Spain\",\"active\":true}";
+        }
+
+        String report() {
+            StringBuilder out = new StringBuilder();
+            out.append(String.format("Target rate %d req/s, %d s, max in flight %d%n", RATE, DURATION.toSeconds(), MAX_IN_FLIGHT));
+            out.append(String.format("%-9s %9s %9s %9s %9s %9s %9s %9s %11s %7s%n",
+                    "endpoint", "count", "req/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms", "max ms", "svc p99 ms", "errors"));
+            for (Endpoint endpoint : Endpoint.values()) {
+                Histogram h = responseTimes.get(endpoint);
+                if (h.getTotalCount() == 0) {
+                    continue;
+                }
+                out.append(String.format(Locale.ROOT, "%-9s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %11.2f %7d%n",
+                        endpoint.name().toLowerCase(Locale.ROOT), h.getTotalCount(), throughput(h),
+                        millis(h, 50), millis(h, 95), millis(h, 99), millis(h, 99.9), toMillis(h.getMaxValue()),
+                        millis(serviceTimes.get(endpoint), 99), errors.get(endpoint).sum()));
+            }
+            return out.toString();
+        }
+
+        String csv() {
+            StringBuilder out = new StringBuilder("timestamp,endpoint,rate,count,throughput,p50_ms,p95_ms,p99_ms,p999_ms,max_ms,service_p99_ms,errors\n");
+            String timestamp = Instant.now().toString();
+            for (Endpoint endpoint : Endpoint.values()) {
+                Histogram h = responseTimes.get(endpoint);
+                if (h.getTotalCount() == 0) {
+                    continue;
+                }
+                out.append(String.format(Locale.ROOT, "%s,%s,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%d%n",
+                        timestamp, endpoint.name().toLowerCase(Locale.ROOT), RATE, h.getTotalCount(), throughput(h),
+                        millis(h, 50), millis(h, 95), millis(h, 99), millis(h, 99.9), toMillis(h.getMaxValue()),
+                        millis(serviceTimes.get(endpoint), 99), errors.get(endpoint).sum()));
+            }
+            return out.toString();
+        }
+
+        private double throughput(Histogram histogram) {
+            return histogram.getTotalCount() / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+
+        private double millis(Histogram histogram, double percentile) {
+            return toMillis(histogram.getValueAtPercentile(percentile));
+        }
+
+        private double toMillis(long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.openmatch.bench;
+
+import com.openmatch.bank.dto.BankRequest;
+import com.openmatch.bank.dto.BankResponse;
+import com.openmatch.bank.entity.Bank;
+import com.openmatch.bank.repository.BankRepository;
+import com.openmatch.bank.service.BankService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of the two read paths for lists of 10k and 100k banks, both in a read-only
+ * transaction as in {@link BankService}: loading managed {@link Bank} entities and copying them
+ * into {@link BankResponse} (the previous path) versus the constructor projection of
+ * {@link BankRepository} (the current one). Run through {@code JmhBenchmarks} for allocation
+ * per operation next to the timings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BankReadPathBenchmark {
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    private BenchmarkApp app;
+    private BankRepository bankRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void start() {
+        app = BenchmarkApp.start(new String[0]);
+        bankRepository = app.context().getBean(BankRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                app.context().getBean(EntityManagerFactory.class));
+        readOnly = new TransactionTemplate(app.context().getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        BankService bankService = app.context().getBean(BankService.class);
+        List<BankRequest> requests = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            BankRequest request = new BankRequest();
+            request.setCode("READ" + i);
+            request.setName("Benchmark Bank " + i);
+            request.setCountry("Spain");
+            requests.add(request);
+        }
+        bankService.bulkSave(requests, false);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        app.close();
+    }
+
+    @Benchmark
+    public List<BankResponse> entities() {
+        return readOnly.execute(status -> {
+            List<Bank> banks = entityManager.createQuery("select b from Bank b order by b.id", Bank.class)
+                    .setMaxResults(rows)
+                    .getResultList();
+            List<BankResponse> responses = new ArrayList<>(banks.size());
+            for (Bank bank : banks) {
+                responses.add(new BankResponse(bank.getId(), bank.getCode(), bank.getName(), bank.getCountry(),
+                        bank.isActive(), bank.getCreationDate(), bank.getVersion()));
+            }
+            return responses;
+        });
+    }
+
+    @Benchmark
+    public List<BankResponse> projection() {
+        return readOnly.execute(status -> bankRepository.findResponsesAfterId(0L, Limit.of(rows)));
+    }
+}
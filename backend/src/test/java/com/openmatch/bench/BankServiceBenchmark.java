@@ -0,0 +1,95 @@
+package com.openmatch.bench;
+
+import com.openmatch.bank.dto.BankPage;
+import com.openmatch.bank.dto.BankRequest;
+import com.openmatch.bank.dto.BankResponse;
+import com.openmatch.bank.service.BankService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JMH benchmark of {@link BankService} against the embedded H2 database.
+ * {@code cacheSize=0} measures the database path of findById, the default the cached path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BankServiceBenchmark {
+
+    @Param({"10000"})
+    public int rows;
+
+    @Param({"0", "10000"})
+    public int cacheSize;
+
+    private BenchmarkApp app;
+    private BankService bankService;
+    private final AtomicLong nextCode = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void start() {
+        app = BenchmarkApp.start(new String[0], "--openmatch.bank.cache.max-size=" + cacheSize);
+        bankService = app.context().getBean(BankService.class);
+        List<BankRequest> requests = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            requests.add(request("SEED" + i));
+        }
+        bankService.bulkSave(requests, false);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        app.close();
+    }
+
+    @Benchmark
+    public BankResponse findById() {
+        // The pooled sequence starts at 1, so seeded ids are 1..rows
+        return bankService.findById(ThreadLocalRandom.current().nextLong(1, rows + 1));
+    }
+
+    @Benchmark
+    public BankResponse create() {
+        return bankService.create(request("JMH" + nextCode.incrementAndGet()));
+    }
+
+    @Benchmark
+    public BankPage findPage() {
+        return bankService.findPage(null, BankService.MAX_PAGE_SIZE, null);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public long exportAll(Blackhole blackhole) {
+        return bankService.exportAll(blackhole::consume);
+    }
+
+    private static BankRequest request(String code) {
+        BankRequest request = new BankRequest();
+        request.setCode(code);
+        request.setName("Benchmark Bank " + code);
+        request.setCountry("Spain");
+        return request;
+    }
+}
@@ -0,0 +1,83 @@
+package com.openmatch.bench;
+
+import com.openmatch.OpenmatchBackendApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * Boots the backend on a random port for benchmarks and seeds it through the bulk API.
+ */
+final class BenchmarkApp implements AutoCloseable {
+
+    private static final int SEED_CHUNK = 1_000;
+
+    private final ConfigurableApplicationContext context;
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final URI baseUri;
+
+    private BenchmarkApp(ConfigurableApplicationContext context) {
+        this.context = context;
+        int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        this.baseUri = URI.create("http://localhost:" + port);
+    }
+
+    /**
+     * Starts the application with the given profiles; {@code args} are command line
+     * arguments such as {@code --openmatch.internal-query.mode=http}.
+     */
+    static BenchmarkApp start(String[] profiles, String... args) {
+        String[] allArgs = new String[args.length + 1];
+        allArgs[0] = "--server.port=0";
+        System.arraycopy(args, 0, allArgs, 1, args.length);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(OpenmatchBackendApplication.class)
+                .profiles(profiles)
+                .run(allArgs);
+        return new BenchmarkApp(context);
+    }
+
+    URI uri(String pathAndQuery) {
+        return baseUri.resolve(pathAndQuery);
+    }
+
+    ConfigurableApplicationContext context() {
+        return context;
+    }
+
+    /**
+     * Creates {@code banks} rows with codes BENCH0..BENCH(n-1) through POST /api/banks/bulk.
+     */
+    void seed(int banks) throws IOException, InterruptedException {
+        for (int from = 0; from < banks; from += SEED_CHUNK) {
+            int to = Math.min(from + SEED_CHUNK, banks);
+            StringBuilder json = new StringBuilder("[");
+            for (int i = from; i < to; i++) {
+                if (i > from) {
+                    json.append(',');
+                }
+                json.append("{\"code\":\"BENCH").append(i)
+                        .append("\",\"name\":\"Benchmark Bank ").append(i)
+                        .append("\",\"country\":\"Spain\",\"active\":true}");
+            }
+            json.append(']');
+            HttpRequest request = HttpRequest.newBuilder(uri("/api/banks/bulk"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json.toString()))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Seeding failed: " + response.statusCode() + " " + response.body());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
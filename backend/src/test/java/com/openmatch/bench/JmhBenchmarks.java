@@ -0,0 +1,32 @@
+package com.openmatch.bench;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks of the backend with the GC profiler, so allocation rate
+ * ({@code gc.alloc.rate.norm}, bytes per operation) is reported next to throughput.
+ * <p>
+ * Run with {@code ./mvnw test -Pbenchmark -Dtest=JmhBenchmarks}; select benchmarks with
+ * {@code -Djmh.include=<regex>}. Results are written to {@code target/jmh-result.json}.
+ */
+@Tag("benchmark")
+class JmhBenchmarks {
+
+    @Test
+    void runJmh() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(System.getProperty("jmh.include", "com\\.openmatch\\..*Benchmark\\."))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-result.json")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,108 @@
+package com.openmatch.bench;
+
+import com.openmatch.OpenmatchBackendApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to ready after a restart with persistence: a snapshot of {@code -Dbench.banks} banks
+ * (default one million) is written once, then new JVMs are launched on it and the time to the
+ * first successful {@code GET /api/banks} is compared with a launch on an empty data directory.
+ * The difference is the restore. Each configuration runs {@code -Dbench.runs} times (default 3).
+ * <p>
+ * Run with {@code ./mvnw test -Pbenchmark -Dtest=RestoreBenchmark}.
+ */
+@Tag("benchmark")
+class RestoreBenchmark {
+
+    private static final int BANKS = Integer.getInteger("bench.banks", 1_000_000);
+    private static final int RUNS = Integer.getInteger("bench.runs", 3);
+    private static final int INSERT_BATCH = 5_000;
+    private static final Duration SNAPSHOT_TIMEOUT = Duration.ofMinutes(5);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void timeToReadyAfterRestore() throws Exception {
+        Path data = dir.resolve("data");
+        Path empty = dir.resolve("empty");
+        long snapshotBytes = writeSnapshot(data);
+        System.out.printf("Snapshot of %d banks: %d MB%n", BANKS, snapshotBytes >> 20);
+
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> base = List.of(java, "-Xmx2g", "-cp", System.getProperty("java.class.path"),
+                OpenmatchBackendApplication.class.getName(), "--openmatch.bank.persistence.enabled=true");
+        Map<String, Path> configurations = new LinkedHashMap<>();
+        configurations.put("empty data directory", empty);
+        configurations.put(BANKS + " banks restored", data);
+        for (Map.Entry<String, Path> configuration : configurations.entrySet()) {
+            List<String> command = new ArrayList<>(base);
+            command.add("--openmatch.bank.persistence.dir=" + configuration.getValue());
+            List<Long> millis = new ArrayList<>();
+            for (int run = 0; run < RUNS; run++) {
+                millis.add(TimeUnit.NANOSECONDS.toMillis(StartupBenchmark.timeToFirstRequest(command)));
+            }
+            Collections.sort(millis);
+            System.out.printf("%-24s time to first GET /api/banks: min %5d ms, median %5d ms, max %5d ms%n",
+                    configuration.getKey(), millis.get(0), millis.get(millis.size() / 2), millis.get(millis.size() - 1));
+        }
+    }
+
+    /**
+     * Inserts the banks with plain JDBC into an instance with persistence enabled and waits for
+     * a snapshot that started after the last insert.
+     */
+    private long writeSnapshot(Path data) throws Exception {
+        try (BenchmarkApp app = BenchmarkApp.start(new String[0],
+                "--openmatch.bank.persistence.enabled=true",
+                "--openmatch.bank.persistence.dir=" + data,
+                "--openmatch.bank.persistence.snapshot-interval=1s")) {
+            JdbcTemplate jdbcTemplate = app.context().getBean(JdbcTemplate.class);
+            Timestamp created = Timestamp.from(Instant.now());
+            for (int from = 0; from < BANKS; from += INSERT_BATCH) {
+                List<Object[]> rows = new ArrayList<>(INSERT_BATCH);
+                for (int i = from; i < Math.min(from + INSERT_BATCH, BANKS); i++) {
+                    rows.add(new Object[]{i + 1L, "BENCH" + i, "Benchmark Bank " + i, "Spain", true, created, 0L});
+                }
+                jdbcTemplate.batchUpdate("insert into bank (id, code, name, country, active, creation_date, version) "
+                        + "values (?, ?, ?, ?, ?, ?, ?)", rows);
+            }
+            Path snapshot = data.resolve("banks.snap");
+            FileTime afterInsert = FileTime.from(Instant.now());
+            // The first snapshot finishing after the inserts may have started before them: wait for the next one
+            FileTime first = awaitSnapshotAfter(snapshot, afterInsert);
+            awaitSnapshotAfter(snapshot, first);
+            return Files.size(snapshot);
+        }
+    }
+
+    private static FileTime awaitSnapshotAfter(Path snapshot, FileTime time) throws Exception {
+        long deadline = System.nanoTime() + SNAPSHOT_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (Files.exists(snapshot)) {
+                FileTime modified = Files.getLastModifiedTime(snapshot);
+                if (modified.compareTo(time) > 0) {
+                    return modified;
+                }
+            }
+            Thread.sleep(50);
+        }
+        throw new IllegalStateException("No snapshot written within " + SNAPSHOT_TIMEOUT);
+    }
+}
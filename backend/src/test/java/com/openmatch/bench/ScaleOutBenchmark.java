@@ -0,0 +1,83 @@
+package com.openmatch.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two instances in scale-out mode on one host, sharing an H2 file database. Each round updates
+ * a bank on node A and measures how long node B, which has the bank in its cache, keeps serving
+ * the old name. Reports p50/p99/max of that propagation delay.
+ * <p>
+ * Run with {@code ./mvnw test -Pbenchmark -Dtest=ScaleOutBenchmark}. Options:
+ * {@code -Dbench.rounds=200 -Dbench.poll-interval=500ms}.
+ */
+@Tag("benchmark")
+class ScaleOutBenchmark {
+
+    private static final int ROUNDS = Integer.getInteger("bench.rounds", 200);
+    private static final String POLL_INTERVAL = System.getProperty("bench.poll-interval", "500ms");
+    private static final Duration MAX_DELAY = Duration.ofSeconds(10);
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void writesOnOneNodeReachTheOther(@TempDir Path dir) throws Exception {
+        String[] args = {
+                "--spring.datasource.url=jdbc:h2:file:" + dir.resolve("cluster").toAbsolutePath() + ";AUTO_SERVER=TRUE",
+                "--openmatch.cluster.poll-interval=" + POLL_INTERVAL
+        };
+        String[] profiles = {"cluster"};
+        try (BenchmarkApp a = BenchmarkApp.start(profiles, args);
+             BenchmarkApp b = BenchmarkApp.start(profiles, args)) {
+            a.seed(1);
+            long id = get(b, "/api/banks/code/BENCH0").get("id").asLong();
+            Histogram delays = new Histogram(TimeUnit.MINUTES.toNanos(1), 3);
+            for (int round = 0; round < ROUNDS; round++) {
+                String name = "Scale-out Bank " + round;
+                get(b, "/api/banks/" + id);
+                long start = System.nanoTime();
+                put(a, "/api/banks/" + id, "{\"code\":\"BENCH0\",\"name\":\"" + name + "\",\"country\":\"Spain\",\"active\":true}");
+                while (!name.equals(get(b, "/api/banks/" + id).get("name").asText())) {
+                    assertThat(System.nanoTime() - start)
+                            .as("propagation delay of round %d", round)
+                            .isLessThan(MAX_DELAY.toNanos());
+                    Thread.sleep(5);
+                }
+                delays.recordValue(System.nanoTime() - start);
+            }
+            System.out.printf("Scale-out propagation over %d rounds (poll interval %s): p50 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                    ROUNDS, POLL_INTERVAL,
+                    delays.getValueAtPercentile(50) / 1e6, delays.getValueAtPercentile(99) / 1e6, delays.getMaxValue() / 1e6);
+        }
+    }
+
+    private JsonNode get(BenchmarkApp app, String path) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(app.uri(path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).as("GET %s", path).isEqualTo(200);
+        return objectMapper.readTree(response.body());
+    }
+
+    private void put(BenchmarkApp app, String path, String json) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(app.uri(path))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).as("PUT %s", path).isEqualTo(200);
+    }
+}
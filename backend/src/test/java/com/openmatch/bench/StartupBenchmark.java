@@ -0,0 +1,140 @@
+package com.openmatch.bench;
+
+import com.openmatch.OpenmatchBackendApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Time from launching a new JVM to the first successful {@code GET /api/banks}, for the
+ * default configuration, the fast-startup profile and, once {@code ./mvnw -Pstartup package}
+ * has produced {@code target/application}, the AOT-processed jar with its CDS archive.
+ * Each configuration is started {@code -Dbench.runs} times (default 5); min, median and max
+ * are reported.
+ * <p>
+ * Run with {@code ./mvnw test -Pbenchmark -Dtest=StartupBenchmark}. With
+ * {@code -Dstartup.max-ms=<ms>} the test fails when the median of the fastest configuration
+ * available exceeds that budget, so startup regressions are caught.
+ */
+@Tag("benchmark")
+class StartupBenchmark {
+
+    private static final int RUNS = Integer.getInteger("bench.runs", 5);
+    private static final long MAX_MS = Long.getLong("startup.max-ms", 0);
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+    private static final Path APPLICATION_DIR = Path.of("target", "application");
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    void timeToFirstRequest() throws Exception {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        String classpath = System.getProperty("java.class.path");
+        String main = OpenmatchBackendApplication.class.getName();
+        Map<String, List<String>> configurations = new LinkedHashMap<>();
+        configurations.put("default", List.of(java, "-cp", classpath, main));
+        configurations.put("fast-startup", List.of(java, "-cp", classpath, main,
+                "--spring.profiles.active=fast-startup"));
+        Optional<Path> jar = extractedJar();
+        if (jar.isPresent()) {
+            configurations.put("fast-startup + AOT + CDS", List.of(java,
+                    "-XX:SharedArchiveFile=" + APPLICATION_DIR.resolve("application.jsa"),
+                    "-Dspring.aot.enabled=true",
+                    "-jar", jar.get().toString(),
+                    "--spring.profiles.active=fast-startup"));
+        } else {
+            System.out.println("No " + APPLICATION_DIR + ": run ./mvnw -Pstartup package to include AOT + CDS");
+        }
+
+        long lastMedian = 0;
+        for (Map.Entry<String, List<String>> configuration : configurations.entrySet()) {
+            List<Long> millis = new ArrayList<>();
+            for (int run = 0; run < RUNS; run++) {
+                millis.add(TimeUnit.NANOSECONDS.toMillis(timeToFirstRequest(configuration.getValue())));
+            }
+            Collections.sort(millis);
+            lastMedian = millis.get(millis.size() / 2);
+            System.out.printf("%-26s time to first GET /api/banks: min %5d ms, median %5d ms, max %5d ms%n",
+                    configuration.getKey(), millis.get(0), lastMedian, millis.get(millis.size() - 1));
+        }
+        if (MAX_MS > 0) {
+            assertThat(lastMedian).as("median time to first request (ms)").isLessThanOrEqualTo(MAX_MS);
+        }
+    }
+
+    /**
+     * Launches {@code command} with a free {@code --server.port} and returns the nanoseconds until
+     * {@code GET /api/banks} first answers 200. The process is stopped afterwards.
+     */
+    static long timeToFirstRequest(List<String> command) throws Exception {
+        int port = freePort();
+        List<String> args = new ArrayList<>(command);
+        args.add("--server.port=" + port);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/banks"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(args)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (true) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with " + process.exitValue() + ": " + args);
+                }
+                if (System.nanoTime() - start > TIMEOUT.toNanos()) {
+                    throw new IllegalStateException("No successful response within " + TIMEOUT + ": " + args);
+                }
+                try {
+                    if (CLIENT.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return System.nanoTime() - start;
+                    }
+                } catch (IOException ex) {
+                    // Not listening yet
+                }
+                Thread.sleep(5);
+            }
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static Optional<Path> extractedJar() throws IOException {
+        if (!Files.exists(APPLICATION_DIR.resolve("application.jsa"))) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(APPLICATION_DIR)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".jar")).findFirst();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
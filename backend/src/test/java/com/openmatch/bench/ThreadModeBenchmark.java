@@ -0,0 +1,127 @@
+package com.openmatch.bench;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares the default platform-thread Tomcat pool with the virtual-threads profile.
+ * Each of N concurrent connections sends a request as soon as its previous one completes
+ * (closed loop) and reports throughput and latency percentiles.
+ * <p>
+ * Run with {@code ./mvnw test -Pbenchmark -Dtest=ThreadModeBenchmark}. Virtual threads need the
+ * JVM running the benchmark to be Java 21+; on older runtimes only platform mode runs.
+ * Options: {@code -Dbench.concurrency=1000,5000,10000 -Dbench.duration=20 -Dbench.seed=10000
+ * -Dbench.paths=/api/banks?limit=20,/api/banks/internal-query}. High concurrency needs a raised
+ * open file limit ({@code ulimit -n 65536}).
+ */
+@Tag("benchmark")
+class ThreadModeBenchmark {
+
+    private static final int[] CONCURRENCY = Arrays.stream(System.getProperty("bench.concurrency", "1000,5000,10000").split(","))
+            .mapToInt(value -> Integer.parseInt(value.trim()))
+            .toArray();
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("bench.duration", 20));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("bench.warmup", 5));
+    private static final int SEED = Integer.getInteger("bench.seed", 10_000);
+    private static final List<String> PATHS = List.of(
+            System.getProperty("bench.paths", "/api/banks?limit=20,/api/banks/internal-query").split(","));
+
+    @Test
+    void platformVersusVirtualThreads() throws Exception {
+        List<String> modes = new ArrayList<>(List.of("platform"));
+        if (Runtime.version().feature() >= 21) {
+            modes.add("virtual-threads");
+        } else {
+            System.out.println("Java " + Runtime.version().feature() + ": virtual threads need Java 21+, running platform mode only");
+        }
+        List<String> report = new ArrayList<>();
+        for (String mode : modes) {
+            String[] profiles = mode.equals("platform") ? new String[0] : new String[]{mode};
+            try (BenchmarkApp app = BenchmarkApp.start(profiles,
+                    "--openmatch.internal-query.mode=http",
+                    "--openmatch.http-client.max-connections=200")) {
+                app.seed(SEED);
+                for (String path : PATHS) {
+                    run(app.uri(path), CONCURRENCY[0], WARMUP);
+                    for (int concurrency : CONCURRENCY) {
+                        Result result = run(app.uri(path), concurrency, DURATION);
+                        report.add(String.format("%-16s %-32s %8d %12.0f %10.2f %10.2f %8d",
+                                mode, path, concurrency, result.throughput(),
+                                result.percentileMillis(50), result.percentileMillis(99), result.errors()));
+                    }
+                }
+            }
+        }
+        System.out.printf("%-16s %-32s %8s %12s %10s %10s %8s%n",
+                "mode", "path", "conns", "req/s", "p50 ms", "p99 ms", "errors");
+        report.forEach(System.out::println);
+    }
+
+    /**
+     * Closed-loop load: {@code concurrency} virtual users, each with at most one request in flight.
+     */
+    private static Result run(URI uri, int concurrency, Duration duration) throws InterruptedException {
+        ExecutorService callbacks = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(callbacks)
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+        Histogram histogram = new ConcurrentHistogram(3);
+        LongAdder errors = new LongAdder();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        for (int i = 0; i < concurrency; i++) {
+            next(client, request, deadline, histogram, errors, done, callbacks);
+        }
+        done.await();
+        long elapsed = System.nanoTime() - start;
+        callbacks.shutdownNow();
+        return new Result(histogram, errors.sum(), elapsed);
+    }
+
+    private static void next(HttpClient client, HttpRequest request, long deadline, Histogram histogram,
+                             LongAdder errors, CountDownLatch done, ExecutorService callbacks) {
+        if (System.nanoTime() >= deadline) {
+            done.countDown();
+            return;
+        }
+        long sent = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenCompleteAsync((response, failure) -> {
+                    histogram.recordValue(System.nanoTime() - sent);
+                    if (failure != null || response.statusCode() != 200) {
+                        errors.increment();
+                    }
+                    next(client, request, deadline, histogram, errors, done, callbacks);
+                }, callbacks);
+    }
+
+    private record Result(Histogram histogram, long errors, long elapsedNanos) {
+
+        double throughput() {
+            return histogram.getTotalCount() / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+
+        double percentileMillis(double percentile) {
+            return histogram.getValueAtPercentile(percentile) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
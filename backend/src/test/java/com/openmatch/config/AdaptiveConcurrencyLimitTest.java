@@ -0,0 +1,76 @@
+package com.openmatch.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = Duration.ofMillis(5).toNanos();
+    private static final long SLOW = Duration.ofMillis(500).toNanos();
+
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 2, 20, Duration.ofMillis(100));
+
+    @Test
+    void tryAcquire_rejectsOverLimit() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+
+        assertThat(limit.tryAcquire()).isFalse();
+        assertThat(limit.inFlight()).isEqualTo(10);
+
+        limit.release(FAST);
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void release_growsLimitWhileFastAndBusy() {
+        for (int round = 0; round < 50; round++) {
+            fill();
+            drain(FAST);
+        }
+
+        assertThat(limit.limit()).isGreaterThan(10).isLessThanOrEqualTo(20);
+    }
+
+    @Test
+    void release_doesNotGrowWhenMostlyIdle() {
+        for (int i = 0; i < 500; i++) {
+            limit.tryAcquire();
+            limit.release(FAST);
+        }
+
+        assertThat(limit.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void release_backsOffOncePerWindowOfSlowResponses() {
+        fill();
+        limit.release(SLOW);
+        limit.release(SLOW);
+
+        assertThat(limit.limit()).isEqualTo(9);
+        drain(SLOW);
+
+        for (int round = 0; round < 50; round++) {
+            fill();
+            drain(SLOW);
+        }
+        assertThat(limit.limit()).isEqualTo(2);
+    }
+
+    private void fill() {
+        while (limit.tryAcquire()) {
+            // acquire every permit
+        }
+    }
+
+    private void drain(long latencyNanos) {
+        while (limit.inFlight() > 0) {
+            limit.release(latencyNanos);
+        }
+    }
+}
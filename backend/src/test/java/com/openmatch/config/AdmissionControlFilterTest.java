@@ -0,0 +1,73 @@
+package com.openmatch.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AdaptiveConcurrencyLimit readLimit = new AdaptiveConcurrencyLimit(1, 1, 1, Duration.ofSeconds(1));
+    private final AdaptiveConcurrencyLimit writeLimit = new AdaptiveConcurrencyLimit(1, 1, 1, Duration.ofSeconds(1));
+    private final AdmissionControlFilter filter = new AdmissionControlFilter(readLimit, writeLimit, true,
+            Duration.ofSeconds(2), new ObjectMapper().findAndRegisterModules(), registry);
+
+    @Test
+    void readOverLimit_isRejectedWithRetryAfter() throws Exception {
+        readLimit.tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/banks/1"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("\"status\":503");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(registry.get("bank.admission.rejected").tag("type", "read").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void writesHaveTheirOwnLimit() throws Exception {
+        readLimit.tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/banks"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(writeLimit.inFlight()).isZero();
+        assertThat(registry.get("bank.admission.in.flight").tag("type", "read").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void batchLookup_countsAsRead() throws Exception {
+        readLimit.tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/banks/lookup"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(registry.get("bank.admission.rejected").tag("type", "read").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void streamsAndLoopbackInternalQuery_areNotLimited() throws Exception {
+        readLimit.tryAcquire();
+        for (String path : new String[]{"/api/banks/export", "/api/banks/changes", "/api/banks/internal-query"}) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilter(new MockHttpServletRequest("GET", path), response, new MockFilterChain());
+
+            assertThat(response.getStatus()).as(path).isEqualTo(200);
+        }
+    }
+}
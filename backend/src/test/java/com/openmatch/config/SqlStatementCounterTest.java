@@ -0,0 +1,27 @@
+package com.openmatch.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementCounterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SqlStatementCounter counter = new SqlStatementCounter(registry);
+
+    @Test
+    void inspect_countsByTypeAndPerThread() {
+        SqlStatementCounter.reset();
+
+        counter.inspect("select b1_0.id from bank b1_0 where b1_0.id=?");
+        counter.inspect("  insert into bank (active,code) values (?,?)");
+        String sql = counter.inspect("select next value for bank_seq");
+
+        assertThat(sql).isEqualTo("select next value for bank_seq");
+        assertThat(registry.get("bank.sql.prepared").tag("type", "select").counter().count()).isEqualTo(2);
+        assertThat(registry.get("bank.sql.prepared").tag("type", "insert").counter().count()).isEqualTo(1);
+        assertThat(SqlStatementCounter.reset()).isEqualTo(3);
+        assertThat(SqlStatementCounter.reset()).isZero();
+    }
+}
@@ -0,0 +1,26 @@
+package com.openmatch.config;
+
+import com.openmatch.bank.cluster.ClusterChangeLog;
+import com.openmatch.bank.persistence.BankPersistence;
+import com.openmatch.bank.service.BankChangeFeed;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupConfigTest {
+
+    private final LazyInitializationExcludeFilter filter = StartupConfig.servingBeansExcludeFilter();
+
+    @Test
+    void startupWorkBeansStayEager() {
+        assertThat(excluded(BankPersistence.class)).isTrue();
+        assertThat(excluded(ClusterChangeLog.class)).isTrue();
+        assertThat(excluded(BankChangeFeed.class)).isFalse();
+    }
+
+    private boolean excluded(Class<?> type) {
+        return filter.isExcluded("bean", new RootBeanDefinition(type), type);
+    }
+}
@@ -0,0 +1,27 @@
+package com.openmatch.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadsConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(VirtualThreadsConfig.class)
+            .withPropertyValues("spring.threads.virtual.enabled=true");
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void connectionLimitsAreNotRaisedWithoutVirtualThreads() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(VirtualThreadsConfig.class));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void connectionLimitsAreRaisedWithVirtualThreads() {
+        contextRunner.run(context -> assertThat(context).hasSingleBean(VirtualThreadsConfig.class));
+    }
+}
@@ -14,13 +14,25 @@ function App() {
     active: true
   })
 
+  // Fetch every page of a paged listing, following the X-Next-Cursor header
+  const fetchAllPages = async (url, errorMessage) => {
+    const all = []
+    let after = null
+    do {
+      const pageUrl = after ? `${url}?after=${encodeURIComponent(after)}` : url
+      const response = await fetch(pageUrl)
+      if (!response.ok) throw new Error(errorMessage)
+      all.push(...await response.json())
+      after = response.headers.get('X-Next-Cursor')
+    } while (after)
+    return all
+  }
+
   // Fetch all banks
   const fetchBanks = async () => {
     setLoading(true)
     try {
-      const response = await fetch('http://localhost:8080/api/banks')
-      if (!response.ok) throw new Error('Failed to fetch banks')
-      const data = await response.json()
+      const data = await fetchAllPages('http://localhost:8080/api/banks', 'Failed to fetch banks')
       setBanks(data)
       setError('')
     } catch (err) {
@@ -34,9 +46,8 @@ function App() {
   const testInternalQuery = async () => {
     setLoading(true)
     try {
-      const response = await fetch('http://localhost:8080/api/banks/internal-query')
-      if (!response.ok) throw new Error('Failed to test internal query')
-      const data = await response.json()
+      const data = await fetchAllPages('http://localhost:8080/api/banks/internal-query',
+        'Failed to test internal query')
       setBanks(data)
       setError('')
       alert('Internal query successful! Check console for details.')